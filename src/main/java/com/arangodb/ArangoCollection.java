@@ -23,7 +23,11 @@ package com.arangodb;
 import com.arangodb.entity.*;
 import com.arangodb.model.*;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Interface for operations on ArangoDB collection level.
@@ -81,7 +85,8 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * _key is given, a new unique _key is generated automatically.
      *
      * Limitations:
-     * - the fields having {@code null} value are always removed during serialization
+     * - the fields having {@code null} value are always removed during serialization, unless the documents are given
+     * as JSON Strings and the protocol is {@link Protocol#HTTP_JSON}
      *
      * @param values A List of documents (POJO, VPackSlice or String for JSON)
      * @return information about the documents
@@ -96,7 +101,8 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      * _key is given, a new unique _key is generated automatically.
      *
      * Limitations:
-     * - the fields having {@code null} value are always removed during serialization
+     * - the fields having {@code null} value are always removed during serialization, unless the documents are given
+     * as JSON Strings and the protocol is {@link Protocol#HTTP_JSON}
      *
      * @param values  A List of documents (POJO, VPackSlice or String for JSON)
      * @param options Additional options, can be null
@@ -108,6 +114,29 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertDocuments(
             Collection<T> values, DocumentCreateOptions options) throws ArangoDBException;
 
+    /**
+     * Creates new documents from the given documents, unless there is already a document with the _key given. If no
+     * _key is given, a new unique _key is generated automatically.
+     *
+     * The results are decoded one at a time and passed to the given consumer in the same order as the given values,
+     * instead of being collected into a {@link MultiDocumentEntity}.
+     *
+     * Limitations:
+     * - the fields having {@code null} value are always removed during serialization, unless the documents are given
+     * as JSON Strings and the protocol is {@link Protocol#HTTP_JSON}
+     *
+     * @param values   A List of documents (POJO, VPackSlice or String for JSON)
+     * @param options  Additional options, can be null
+     * @param consumer receives each created document or error
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+     * Documentation</a>
+     */
+    <T> void insertDocuments(
+            Collection<T> values,
+            DocumentCreateOptions options,
+            MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer) throws ArangoDBException;
+
     /**
      * Bulk imports the given values into the collection.
      *
@@ -134,10 +163,11 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     DocumentImportEntity importDocuments(Collection<?> values, DocumentImportOptions options) throws ArangoDBException;
 
     /**
-     * Bulk imports the given values into the collection.
+     * Bulk imports the given values into the collection. The JSON text is sent as is when using
+     * {@link Protocol#HTTP_JSON}, otherwise it is converted to VelocyPack.
      *
      * Limitations:
-     * - the fields having {@code null} value are always removed during serialization
+     * - the fields having {@code null} value are removed, unless the protocol is {@link Protocol#HTTP_JSON}
      *
      * @param values JSON-encoded array of objects that will be stored as documents
      * @return information about the import
@@ -146,10 +176,11 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     DocumentImportEntity importDocuments(String values) throws ArangoDBException;
 
     /**
-     * Bulk imports the given values into the collection.
+     * Bulk imports the given values into the collection. The JSON text is sent as is when using
+     * {@link Protocol#HTTP_JSON}, otherwise it is converted to VelocyPack.
      *
      * Limitations:
-     * - the fields having {@code null} value are always removed during serialization
+     * - the fields having {@code null} value are removed, unless the protocol is {@link Protocol#HTTP_JSON}
      *
      * @param values  JSON-encoded array of objects that will be stored as documents
      * @param options Additional options, can be null
@@ -158,6 +189,39 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     DocumentImportEntity importDocuments(String values, DocumentImportOptions options) throws ArangoDBException;
 
+    /**
+     * Bulk imports the documents read from the stream, either a JSON array of objects or JSON objects separated by
+     * newlines (JSON lines). The input is read in chunks of {@link DocumentImportOptions#chunkSize(Integer)}
+     * characters, each one imported with a separate request, so that inputs of any size are imported with bounded
+     * memory. The stream is read as UTF-8 and is not closed.
+     *
+     * Limitations:
+     * - {@link DocumentImportOptions#complete(Boolean)} applies to each chunk only: if the import of a chunk fails,
+     * the documents of the chunks imported before stay in the collection
+     *
+     * @param values  JSON array or JSON lines input
+     * @param options Additional options, can be null
+     * @return information about the import, summed over all the requests
+     * @throws ArangoDBException
+     * @see DocumentImportOptions#parallelism(Integer)
+     */
+    DocumentImportEntity importDocuments(InputStream values, DocumentImportOptions options) throws ArangoDBException;
+
+    /**
+     * Bulk imports the documents read from the file, either a JSON array of objects or JSON objects separated by
+     * newlines (JSON lines), like {@link #importDocuments(InputStream, DocumentImportOptions)}.
+     *
+     * Limitations:
+     * - {@link DocumentImportOptions#complete(Boolean)} applies to each chunk only: if the import of a chunk fails,
+     * the documents of the chunks imported before stay in the collection
+     *
+     * @param values  UTF-8 encoded file containing a JSON array or JSON lines
+     * @param options Additional options, can be null
+     * @return information about the import, summed over all the requests
+     * @throws ArangoDBException
+     */
+    DocumentImportEntity importDocuments(Path values, DocumentImportOptions options) throws ArangoDBException;
+
     /**
      * Retrieves the document with the given {@code key} from the collection.
      *
@@ -205,6 +269,21 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
     <T> MultiDocumentEntity<T> getDocuments(Collection<String> keys, Class<T> type, DocumentReadOptions options)
             throws ArangoDBException;
 
+    /**
+     * Retrieves multiple documents with the given {@code _key} from the collection. The documents are decoded one at a
+     * time and passed to the given consumer in the same order as the given keys, instead of being collected into a
+     * {@link MultiDocumentEntity}.
+     *
+     * @param keys     The keys of the documents
+     * @param type     The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @param options  Additional options, can be null
+     * @param consumer receives each document or error
+     * @throws ArangoDBException
+     */
+    <T> void getDocuments(
+            Collection<String> keys, Class<T> type, DocumentReadOptions options, MultiDocumentConsumer<? super T> consumer)
+            throws ArangoDBException;
+
     /**
      * Replaces the document with {@code key} with the one in the body, provided there is such a document and no
      * precondition is violated
@@ -715,6 +794,112 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
      */
     ShardEntity getResponsibleShard(final Object value);
 
+    /**
+     * Exports all the documents of the collection through several streaming cursors running concurrently, one for each
+     * shard in a cluster, or one for each key range on a single server. The documents of each partition are passed to
+     * the consumer in key order, documents of different partitions are passed concurrently from different threads.
+     *
+     * @param type     The type of the documents (POJO class, VPackSlice or String for JSON)
+     * @param options  Additional options, can be null
+     * @param consumer thread-safe consumer of the exported documents
+     * @throws ArangoDBException
+     * @see CollectionExportOptions#resumeAfter(java.util.Map)
+     */
+    <T> void exportParallel(Class<T> type, CollectionExportOptions options, Consumer<? super T> consumer)
+            throws ArangoDBException;
+
+    /**
+     * Returns a view of this collection coalescing the single-document inserts and updates executed concurrently into
+     * multi-document requests. The first write waits up to {@link WriteCoalescingOptions#maxDelay(Integer)} for
+     * further writes with the same options object (or {@code null} options) and document type, and then sends all of
+     * them in one request. Each caller receives its own result, or the exception of its own document. Updates with
+     * {@code ifMatch} and silent writes are not coalesced. All the other operations behave as on this collection.
+     * <p>
+     * Coalescing improves the throughput of many threads writing small documents at the cost of latency, it should not
+     * be used for writes executed sequentially by a single thread.
+     *
+     * @param options Additional options, can be null
+     * @return a coalescing view of this collection, to be shared by the writing threads
+     */
+    ArangoCollection withWriteCoalescing(WriteCoalescingOptions options);
+
+    /**
+     * Removes all the documents matching the given filter, with a sequence of queries each removing at most
+     * {@link DeleteWhereOptions#batchSize(Integer)} documents, until fewer documents than the batch size are removed.
+     * In a cluster, the shards are processed concurrently. Queries failing with a write-write conflict are retried;
+     * with {@link DeleteWhereOptions#intermediateCommitCount(Long)}, the documents removed by the intermediate commits
+     * of a failed query are not included in the returned count.
+     *
+     * @param filter   AQL filter expression, referring to the document as {@code d}, e.g. {@code d.expires < @now}
+     * @param bindVars key/value pairs defining the variables used by the filter, can be null
+     * @param options  Additional options, can be null
+     * @return the number of removed documents
+     * @throws ArangoDBException
+     */
+    long deleteWhere(String filter, Map<String, Object> bindVars, DeleteWhereOptions options)
+            throws ArangoDBException;
+
+    /**
+     * Inserts the given documents, or overwrites the existing documents with the same keys, in batches. Documents
+     * failing with a write-write conflict or a lock timeout are retried after a randomized exponential backoff, the
+     * other documents of their batch are not sent again.
+     *
+     * @param values the documents to upsert
+     * @param merge  if true, existing documents are updated with the given attributes, merging nested objects
+     *               ({@link OverwriteMode#update}), otherwise they are replaced ({@link OverwriteMode#replace})
+     * @param options Additional options, can be null
+     * @return the results of the documents, in the order of the stream, including the errors remaining after the
+     * retries
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+     * Documentation</a>
+     * @since ArangoDB 3.7
+     */
+    <T> MultiDocumentEntity<DocumentCreateEntity<T>> upsertAll(Stream<T> values, boolean merge, UpsertOptions options)
+            throws ArangoDBException;
+
+    /**
+     * Opens a writer journaling write operations to a local file and sending them to this collection asynchronously.
+     * Operations left in the journal by a previous writer are sent first.
+     *
+     * @param options Additional options, the journal file is required
+     * @return the writer, to be closed when no longer used
+     * @throws ArangoDBException if the journal cannot be opened
+     */
+    WriteBehindWriter writeBehind(WriteBehindOptions options) throws ArangoDBException;
+
+    /**
+     * Replaces all the documents of the collection with the given values. The values are loaded into a new shadow
+     * collection, created with the properties of this collection, the indexes of this collection are then built on
+     * the shadow collection concurrently, and finally the shadow collection is renamed to the name of this collection,
+     * after which the previous collection is dropped. Readers keep seeing the previous documents until the rename, and
+     * no index is maintained while the documents are inserted.
+     * <p>
+     * The reload fails if any document cannot be inserted, in which case the collection is left unchanged. Renaming
+     * collections is not supported in a cluster. Graph definitions, views and permissions referring to the collection
+     * are not transferred.
+     *
+     * @param values  the new documents of the collection
+     * @param options Additional options, can be null
+     * @return information about the reloaded collection
+     * @throws ArangoDBException
+     */
+    <T> CollectionEntity reload(Iterable<T> values, CollectionReloadOptions options) throws ArangoDBException;
+
+    /**
+     * Creates a writer inserting documents in batches, with several requests executing concurrently. The results of
+     * the inserted documents are passed to the consumer in the order the documents have been added, from the threads
+     * of the writer. The writer must be closed to send the last batch and release its threads.
+     *
+     * @param options  Additional options, can be null
+     * @param consumer receives the result of each inserted document, can be null
+     * @return the writer
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+     * Documentation</a>
+     */
+    <T> BulkWriter<T> bulkWriter(
+            BulkWriterOptions options, MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer);
+
     /**
      * Retrieve the collections revision
      *
@@ -22,10 +22,12 @@ package com.arangodb;
 
 import com.arangodb.entity.CursorEntity.Stats;
 import com.arangodb.entity.CursorEntity.Warning;
+import com.arangodb.velocypack.VPackSlice;
 
 import java.io.Closeable;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -70,4 +72,51 @@ public interface ArangoCursor<T> extends ArangoIterable<T>, ArangoIterator<T>, C
      */
     List<T> asListRemaining();
 
+    /**
+     * Returns the remaining results as an unmodifiable {@code List} holding the received batches in serialized form
+     * and deserializing the elements on access. Up to {@code maxMemorySize} bytes of batches are kept on the heap,
+     * the further ones are written to a memory mapped temporary file. This allows to materialize results larger than
+     * the available heap, at the cost of deserializing an element each time it is accessed.
+     *
+     * @param maxMemorySize maximum size in bytes of the batches kept on the heap
+     * @return the remaining results as a {@code List}
+     */
+    List<T> asListRemaining(long maxMemorySize);
+
+    /**
+     * Returns the remaining results batch by batch, as received from the server and without deserializing them. Each
+     * batch is a {@link VPackSlice} array. If some elements of the current batch have already been returned by
+     * {@link #next()}, the first returned batch contains only the elements not yet returned.
+     *
+     * @return iterator over the remaining batches
+     */
+    ArangoIterator<VPackSlice> batches();
+
+    /**
+     * Returns the remaining results as {@code long} values, read directly from the received batches without boxing
+     * and without deserialization. Closing the returned cursor closes this cursor.
+     *
+     * @return cursor over the remaining numeric results
+     * @see LongCursor
+     */
+    LongCursor longs();
+
+    /**
+     * Returns the remaining results as {@code double} values, read directly from the received batches without boxing
+     * and without deserialization. Closing the returned cursor closes this cursor.
+     *
+     * @return cursor over the remaining numeric results
+     * @see DoubleCursor
+     */
+    DoubleCursor doubles();
+
+    /**
+     * Returns the remaining results as a sequential {@code Stream}. If the stream is made parallel, whole batches are
+     * handed off to other threads to be deserialized and processed, while they are still fetched from the server one
+     * after the other.
+     *
+     * @return stream of the remaining results
+     */
+    Stream<T> streamRemaining();
+
 }
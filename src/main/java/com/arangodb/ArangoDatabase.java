@@ -28,6 +28,7 @@ import com.arangodb.model.arangosearch.AnalyzerDeleteOptions;
 import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -311,6 +312,26 @@ public interface ArangoDatabase extends ArangoSerializationAccessor {
      */
     <T> ArangoCursor<T> query(String query, Class<T> type) throws ArangoDBException;
 
+    /**
+     * Executes the given {@code query} once for each of the given bind parameter sets, within a single request. The
+     * query is executed as a subquery per set, so value bind parameters can differ between the sets, while collection
+     * bind parameters ({@code @@name}) must be the same in all of them.
+     *
+     * @param query       An AQL query string
+     * @param bindVarSets the sets of key/value pairs defining the variables to bind the query to
+     * @param options     Additional options that will be passed to the query API, can be null
+     * @param type        The type of the result (POJO class, VPackSlice, String for JSON, or Collection/List/Map)
+     * @return the results of the query for each bind parameter set, in the order of the sets
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> List<List<T>> queryBatch(
+            String query,
+            List<Map<String, Object>> bindVarSets,
+            AqlQueryOptions options,
+            Class<T> type) throws ArangoDBException;
+
     /**
      * Return an cursor from the given cursor-ID if still existing
      *
@@ -324,6 +345,22 @@ public interface ArangoDatabase extends ArangoSerializationAccessor {
      */
     <T> ArangoCursor<T> cursor(String cursorId, Class<T> type) throws ArangoDBException;
 
+    /**
+     * Serializes the given {@code query} and {@code options} once and returns an {@code ArangoPreparedQuery}, which can
+     * be executed repeatedly with different bind parameters. Later changes to {@code options} are not reflected in the
+     * prepared query.
+     *
+     * @param query   An AQL query string
+     * @param options Additional options that will be passed to the query API, can be null
+     * @param type    The type of the result (POJO class, VPackSlice, String for JSON, or Collection/List/Map)
+     * @return the prepared query
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> ArangoPreparedQuery<T> prepareQuery(String query, AqlQueryOptions options, Class<T> type)
+            throws ArangoDBException;
+
     /**
      * Explain an AQL query and return information about it
      *
@@ -20,10 +20,15 @@
 
 package com.arangodb;
 
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
 import com.arangodb.entity.EdgeEntity;
 import com.arangodb.entity.EdgeUpdateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.model.*;
 
+import java.util.Collection;
+
 /**
  * Interface for operations on ArangoDB edge collection level.
  *
@@ -162,4 +167,35 @@ public interface ArangoEdgeCollection extends ArangoSerializationAccessor {
      */
     void deleteEdge(String key, EdgeDeleteOptions options) throws ArangoDBException;
 
+    /**
+     * Creates new edges in the collection, through the document API in batches of
+     * {@link GraphBatchOptions#batchSize(Integer)} edges, several of them executed concurrently. As for
+     * {@link #insertEdge(Object, EdgeCreateOptions)}, the {@code _from} and {@code _to} vertices of each edge must
+     * belong to the collections of the edge definition, otherwise the edge is not inserted and an error with
+     * {@code errorNum} 1906 (invalid edge) is returned in its place. The existence of the vertices is not checked.
+     *
+     * @param values  A List of edges (POJO, VPackSlice or String for JSON)
+     * @param options Additional options, can be null
+     * @return information about the edges, in the order of {@code values}
+     * @throws ArangoDBException if the collection is not used in an edge definition of the graph
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-multiple-documents">API
+     * Documentation</a>
+     */
+    <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertEdges(Collection<T> values, GraphBatchOptions options)
+            throws ArangoDBException;
+
+    /**
+     * Removes edges, through the document API in batches of {@link GraphBatchOptions#batchSize(Integer)} edges,
+     * several of them executed concurrently.
+     *
+     * @param keys    The keys of the edges
+     * @param options Additional options, can be null
+     * @return information about the removed edges, in the order of {@code keys}
+     * @throws ArangoDBException if the collection is not used in an edge definition of the graph
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#removes-multiple-documents">API
+     * Documentation</a>
+     */
+    MultiDocumentEntity<DocumentDeleteEntity<Void>> deleteEdges(Collection<String> keys, GraphBatchOptions options)
+            throws ArangoDBException;
+
 }
@@ -20,10 +20,14 @@
 
 package com.arangodb;
 
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.entity.VertexUpdateEntity;
 import com.arangodb.model.*;
 
+import java.util.Collection;
+
 /**
  * Interface for operations on ArangoDB vertex collection level.
  *
@@ -77,6 +81,21 @@ public interface ArangoVertexCollection extends ArangoSerializationAccessor {
      */
     <T> VertexEntity insertVertex(T value, VertexCreateOptions options) throws ArangoDBException;
 
+    /**
+     * Creates new vertices in the collection, through the document API in batches of
+     * {@link GraphBatchOptions#batchSize(Integer)} vertices, several of them executed concurrently. The collection
+     * must be a vertex collection of the graph, either used in an edge definition or as orphan collection.
+     *
+     * @param values  A List of vertices (POJO, VPackSlice or String for JSON)
+     * @param options Additional options, can be null
+     * @return information about the vertices, in the order of {@code values}
+     * @throws ArangoDBException if the collection is not a vertex collection of the graph
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-multiple-documents">API
+     * Documentation</a>
+     */
+    <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertVertices(Collection<T> values, GraphBatchOptions options)
+            throws ArangoDBException;
+
     /**
      * Retrieves the vertex document with the given {@code key} from the collection.
      *
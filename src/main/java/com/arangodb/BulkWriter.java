@@ -0,0 +1,82 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.model.BulkWriterOptions;
+
+import java.io.Closeable;
+import java.util.stream.Stream;
+
+/**
+ * Inserts documents in batches, sending a request as soon as a batch is full and keeping up to
+ * {@link BulkWriterOptions#maxInFlight(Integer)} requests executing concurrently. Adding documents blocks while the
+ * maximum number of requests is in flight. Instances are not thread-safe.
+ * <p>
+ * If a request fails, the exception is thrown by the next invocation of any method of the writer, and the
+ * documents added afterwards are not inserted.
+ *
+ * @param <T> the type of the documents
+ * @author Michele Rastelli
+ * @see ArangoCollection#bulkWriter(BulkWriterOptions, MultiDocumentConsumer)
+ */
+public interface BulkWriter<T> extends Closeable {
+
+    /**
+     * Adds a document to the current batch, sending the batch if full.
+     *
+     * @param document the document to insert
+     * @throws ArangoDBException if a previous request failed
+     */
+    void add(T document) throws ArangoDBException;
+
+    /**
+     * Adds the documents, sending the batches as they fill up.
+     *
+     * @param documents the documents to insert
+     * @throws ArangoDBException if a previous request failed
+     */
+    void addAll(Iterable<? extends T> documents) throws ArangoDBException;
+
+    /**
+     * Adds the documents, sending the batches as they fill up.
+     *
+     * @param documents the documents to insert
+     * @throws ArangoDBException if a previous request failed
+     */
+    void addAll(Stream<? extends T> documents) throws ArangoDBException;
+
+    /**
+     * Sends the current batch and waits until all the requests have completed and their results have been passed to
+     * the consumer.
+     *
+     * @throws ArangoDBException if a request failed
+     */
+    void flush() throws ArangoDBException;
+
+    /**
+     * Flushes the writer and releases its threads.
+     *
+     * @throws ArangoDBException if a request failed
+     */
+    @Override
+    void close() throws ArangoDBException;
+
+}
@@ -0,0 +1,57 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import java.io.Closeable;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Cursor over the remaining numeric results of a query, read as {@code double} values directly from the received
+ * batches, without boxing and without going through the configured serializer. Array results are flattened, so
+ * that {@code RETURN [doc.a, doc.b]} returns {@code a} and {@code b} of each document one after the other.
+ *
+ * @author Michele Rastelli
+ * @see ArangoCursor#doubles()
+ */
+public interface DoubleCursor extends PrimitiveIterator.OfDouble, Closeable {
+
+    /**
+     * Performs the given action for each remaining value.
+     *
+     * @param action action to perform
+     * @throws ArangoDBException if a result is not a number
+     */
+    void forEachDouble(DoubleConsumer action);
+
+    /**
+     * @return the remaining values
+     * @throws ArangoDBException if a result is not a number
+     */
+    double[] toDoubleArray();
+
+    /**
+     * Closes the underlying cursor.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,49 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.entity.ErrorEntity;
+
+/**
+ * Receives the elements of a multi-document operation result one by one, in the same order as they are processed by
+ * the server. Elements are decoded lazily from the response, so nothing is retained by the driver unless the
+ * implementation keeps it.
+ *
+ * @param <E> the type of the successfully processed elements
+ * @author Michele Rastelli
+ */
+public interface MultiDocumentConsumer<E> {
+
+    /**
+     * Invoked for each successfully processed document.
+     *
+     * @param document the decoded document
+     */
+    void document(E document);
+
+    /**
+     * Invoked for each document that could not be processed.
+     *
+     * @param error the error reported by the server
+     */
+    void error(ErrorEntity error);
+
+}
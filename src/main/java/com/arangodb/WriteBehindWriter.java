@@ -0,0 +1,96 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.model.WriteBehindOptions;
+
+import java.io.Closeable;
+
+/**
+ * Acknowledges writes as soon as they are appended to a local journal, and sends them to the server in batches from a
+ * background thread. Operations are sent in the order they have been journaled, failed requests are retried until
+ * they reach the server. Operations still in the journal when the writer is closed, or when the process crashes, are
+ * sent by the next writer opened on the same journal file. Operations can therefore be executed more than once, which
+ * should be accounted for, for example with {@link com.arangodb.model.DocumentCreateOptions#overwrite(Boolean)}.
+ * <p>
+ * Instances are thread-safe. Appending blocks while the journal is full. If the background thread stops
+ * unexpectedly, appending and {@link #flush()} throw an {@link ArangoDBException}.
+ *
+ * @author Michele Rastelli
+ * @see ArangoCollection#writeBehind(WriteBehindOptions)
+ */
+public interface WriteBehindWriter extends Closeable {
+
+    /**
+     * Journals the insertion of a document.
+     *
+     * @param document the document to insert
+     * @throws ArangoDBException if the writer is closed
+     */
+    void insert(Object document) throws ArangoDBException;
+
+    /**
+     * Journals the partial update of a document.
+     *
+     * @param key      the key of the document
+     * @param document the attributes to update
+     * @throws ArangoDBException if the writer is closed
+     */
+    void update(String key, Object document) throws ArangoDBException;
+
+    /**
+     * Journals the removal of a document.
+     *
+     * @param key the key of the document
+     * @throws ArangoDBException if the writer is closed
+     */
+    void delete(String key) throws ArangoDBException;
+
+    /**
+     * Waits until all the journaled operations have been executed by the server.
+     *
+     * @throws ArangoDBException if the writer is closed before
+     */
+    void flush() throws ArangoDBException;
+
+    /**
+     * @return the number of journaled operations not yet executed by the server
+     */
+    long getLag();
+
+    /**
+     * @return the number of bytes of the journal holding operations not yet executed by the server
+     */
+    long getJournalSize();
+
+    /**
+     * @return the number of operations rejected by the server
+     */
+    long getFailedCount();
+
+    /**
+     * Stops sending operations after the current request and closes the journal. Operations not yet executed by the
+     * server are kept in the journal.
+     */
+    @Override
+    void close();
+
+}
@@ -22,6 +22,7 @@ package com.arangodb.async;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoSerializationAccessor;
+import com.arangodb.MultiDocumentConsumer;
 import com.arangodb.entity.*;
 import com.arangodb.model.*;
 
@@ -100,6 +101,25 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
             final Collection<T> values,
             final DocumentCreateOptions options);
 
+    /**
+     * Creates new documents from the given documents, unless there is already a document with the _key given. If no
+     * _key is given, a new unique _key is generated automatically.
+     *
+     * The results are decoded one at a time and passed to the given consumer in the same order as the given values,
+     * instead of being collected into a {@link MultiDocumentEntity}.
+     *
+     * @param values   A List of documents (POJO, VPackSlice or String for Json)
+     * @param options  Additional options, can be null
+     * @param consumer receives each created document or error
+     * @return a future completed after all results have been passed to the consumer
+     * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+     * Documentation</a>
+     */
+    <T> CompletableFuture<Void> insertDocuments(
+            final Collection<T> values,
+            final DocumentCreateOptions options,
+            final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer);
+
     /**
      * Imports documents
      *
@@ -182,6 +202,22 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
             final Class<T> type,
             DocumentReadOptions options);
 
+    /**
+     * Reads multiple documents. The documents are decoded one at a time and passed to the given consumer in the same
+     * order as the given keys, instead of being collected into a {@link MultiDocumentEntity}.
+     *
+     * @param keys     The keys of the documents
+     * @param type     The type of the documents (POJO class, VPackSlice or String for Json)
+     * @param options  Additional options, can be null
+     * @param consumer receives each document or error
+     * @return a future completed after all results have been passed to the consumer
+     */
+    <T> CompletableFuture<Void> getDocuments(
+            final Collection<String> keys,
+            final Class<T> type,
+            final DocumentReadOptions options,
+            final MultiDocumentConsumer<? super T> consumer);
+
     /**
      * Replaces the document with key with the one in the body, provided there is such a document and no precondition is
      * violated
@@ -30,6 +30,7 @@ import com.arangodb.entity.ArangoDBVersion;
 import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.entity.LogEntity;
 import com.arangodb.entity.LogLevelEntity;
+import com.arangodb.entity.OpenCursorsEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ServerRole;
 import com.arangodb.entity.UserEntity;
@@ -172,6 +173,15 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
      */
     CompletableFuture<ServerRole> getRole();
 
+    /**
+     * Returns statistics about the cursors created by this instance which have been neither exhausted nor closed, and
+     * therefore still hold resources on the server. Cursors which are garbage collected before being exhausted or
+     * closed are closed by the driver and reported as leaked in the log.
+     *
+     * @return statistics about the open cursors
+     */
+    OpenCursorsEntity getOpenCursors();
+
     /**
      * Create a new user. This user will not have access to any database. You need permission to the _system database in
      * order to execute this call.
@@ -465,6 +475,21 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Sets the capacity of the dictionary used to share the attribute names of {@link com.arangodb.entity.BaseDocument}
+         * and {@link com.arangodb.entity.BaseEdgeDocument} deserialized from VelocyPack, so that documents with the
+         * same shape do not allocate new Strings for their attribute names. The dictionary is shared by all instances
+         * created by this builder.
+         *
+         * @param capacity maximum number of cached attribute names, {@code 0} disables the dictionary, {@code null}
+         *                 restores the default (default: 4096)
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder attributeNameDictionaryCapacity(final Integer capacity) {
+            setAttributeNameDictionaryCapacity(capacity);
+            return this;
+        }
+
         /**
          * Register a custom {@link VPackSerializer} for a specific type to be used within the internal serialization
          * process.
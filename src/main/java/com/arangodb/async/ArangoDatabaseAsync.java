@@ -316,6 +316,40 @@ public interface ArangoDatabaseAsync extends ArangoSerializationAccessor {
      */
     <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String cursorId, final Class<T> type);
 
+    /**
+     * Returns a publisher of the results of the given {@code query}. The query is executed for each subscriber, once
+     * it requests the first elements, and the following batches are fetched asynchronously only when the demand of
+     * the subscriber is not fulfilled by the current batch. Cancelling the subscription deletes the cursor on the
+     * server.
+     *
+     * @param query    An AQL query string
+     * @param bindVars key/value pairs defining the variables to bind the query to
+     * @param options  Additional options that will be passed to the query API, can be null
+     * @param type     The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+     * @return publisher of the results
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> ArangoPublisher<T> queryPublisher(
+            final String query,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final Class<T> type);
+
+    /**
+     * Serializes the given {@code query} and {@code options} once and returns an {@code ArangoPreparedQueryAsync},
+     * which can be executed repeatedly with different bind parameters. Later changes to {@code options} are not
+     * reflected in the prepared query.
+     *
+     * @param query   An AQL query string
+     * @param options Additional options that will be passed to the query API, can be null
+     * @param type    The type of the result (POJO class, VPackSlice, String for Json, or Collection/List/Map)
+     * @return the prepared query
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> ArangoPreparedQueryAsync<T> prepareQuery(final String query, final AqlQueryOptions options, final Class<T> type);
+
     /**
      * Explain an AQL query and return information about it
      *
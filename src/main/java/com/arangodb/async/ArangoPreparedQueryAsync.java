@@ -0,0 +1,52 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async;
+
+import com.arangodb.model.AqlQueryOptions;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AQL query whose query string and options have been serialized once, so that executing it only requires serializing
+ * the bind parameters. Instances are thread-safe and can be executed any number of times.
+ *
+ * @param <T> the type of the result
+ * @author Michele Rastelli
+ * @see ArangoDatabaseAsync#prepareQuery(String, AqlQueryOptions, Class)
+ */
+public interface ArangoPreparedQueryAsync<T> {
+
+    /**
+     * @return the AQL query string
+     */
+    String getQuery();
+
+    /**
+     * Executes the query with the given {@code bindVars}, then returns a new {@code ArangoCursorAsync} instance for
+     * the result list.
+     *
+     * @param bindVars key/value pairs defining the variables to bind the query to, can be null
+     * @return cursor of the results
+     */
+    CompletableFuture<ArangoCursorAsync<T>> execute(Map<String, Object> bindVars);
+
+}
@@ -0,0 +1,96 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async;
+
+/**
+ * Publisher of query results with demand-driven fetching, following the contract of Reactive Streams and of
+ * {@code java.util.concurrent.Flow} (Java 9+), so that it can be adapted to them with a thin wrapper.
+ *
+ * @param <T> the type of the published elements
+ * @author Michele Rastelli
+ * @see ArangoDatabaseAsync#queryPublisher(String, java.util.Map, com.arangodb.model.AqlQueryOptions, Class)
+ */
+public interface ArangoPublisher<T> {
+
+    /**
+     * Adds the given subscriber. Every subscription executes the query anew.
+     *
+     * @param subscriber the subscriber
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+
+    /**
+     * Receiver of the published elements.
+     *
+     * @param <T> the type of the received elements
+     */
+    interface Subscriber<T> {
+
+        /**
+         * Invoked before any other method of the subscriber. No element is published until
+         * {@link Subscription#request(long)} is invoked.
+         *
+         * @param subscription the new subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Invoked with the next element.
+         *
+         * @param item the element
+         */
+        void onNext(T item);
+
+        /**
+         * Invoked when the subscription failed, no other method is invoked afterwards.
+         *
+         * @param throwable the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Invoked when all the elements have been published, no other method is invoked afterwards.
+         */
+        void onComplete();
+
+    }
+
+    /**
+     * Link between a publisher and a subscriber.
+     */
+    interface Subscription {
+
+        /**
+         * Adds the given number of elements to the unfulfilled demand. Batches are fetched from the server only while
+         * there is unfulfilled demand.
+         *
+         * @param n the number of elements to add, must be positive
+         */
+        void request(long n);
+
+        /**
+         * Stops publishing elements and deletes the cursor on the server, if still existing.
+         */
+        void cancel();
+
+    }
+
+}
@@ -21,6 +21,7 @@
 package com.arangodb.async.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.MultiDocumentConsumer;
 import com.arangodb.async.ArangoCollectionAsync;
 import com.arangodb.entity.*;
 import com.arangodb.internal.InternalArangoCollection;
@@ -75,6 +76,16 @@ public class ArangoCollectionAsyncImpl
                 insertDocumentsResponseDeserializer(values, params));
     }
 
+    @Override
+    public <T> CompletableFuture<Void> insertDocuments(
+            final Collection<T> values,
+            final DocumentCreateOptions options,
+            final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer) {
+        final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+        return executor.execute(insertDocumentsRequest(values, params),
+                insertDocumentsResponseDeserializer(values, params, consumer));
+    }
+
     @Override
     public CompletableFuture<DocumentImportEntity> importDocuments(final Collection<?> values) {
         return importDocuments(values, new DocumentImportOptions());
@@ -132,6 +143,16 @@ public class ArangoCollectionAsyncImpl
         return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
     }
 
+    @Override
+    public <T> CompletableFuture<Void> getDocuments(
+            final Collection<String> keys,
+            final Class<T> type,
+            final DocumentReadOptions options,
+            final MultiDocumentConsumer<? super T> consumer) {
+        return executor.execute(getDocumentsRequest(keys, options),
+                getDocumentsResponseDeserializer(type, options, consumer));
+    }
+
     @Override
     public <T> CompletableFuture<DocumentUpdateEntity<T>> replaceDocument(final String key, final T value) {
         final DocumentReplaceOptions options = new DocumentReplaceOptions();
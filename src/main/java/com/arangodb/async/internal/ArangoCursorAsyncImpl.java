@@ -26,11 +26,6 @@ import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
 
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
-
 /**
  * @author Mark Vollmary
  */
@@ -40,9 +35,4 @@ public class ArangoCursorAsyncImpl<T> extends ArangoCursorImpl<T> implements Ara
                           final Class<T> type, final CursorEntity result) {
         super(db, execute, type, result);
     }
-
-    @Override
-    public Stream<T> streamRemaining() {
-        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
-    }
 }
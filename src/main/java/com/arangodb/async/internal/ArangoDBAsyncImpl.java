@@ -127,6 +127,11 @@ public class ArangoDBAsyncImpl extends InternalArangoDB<ArangoExecutorAsync> imp
         return executor.execute(getRoleRequest(), getRoleResponseDeserializer());
     }
 
+    @Override
+    public OpenCursorsEntity getOpenCursors() {
+        return cursorRegistry().getOpenCursors();
+    }
+
     @Override
     public CompletableFuture<UserEntity> createUser(final String user, final String passwd) {
         return executor.execute(createUserRequest(db().name(), user, passwd, new UserCreateOptions()),
@@ -27,12 +27,17 @@ import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.cursor.BatchSizeTuner;
+import com.arangodb.internal.cursor.CursorRegistry;
+import com.arangodb.internal.cursor.PrefetchingCursorExecute;
+import com.arangodb.internal.cursor.ResumableCursorExecute;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
 import com.arangodb.model.arangosearch.AnalyzerDeleteOptions;
 import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 
 import java.util.Collection;
@@ -41,6 +46,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 
 /**
  * @author Mark Vollmary
@@ -164,7 +170,15 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
         final Request request = queryRequest(query, bindVars, options);
         final HostHandle hostHandle = new HostHandle();
         final CompletableFuture<CursorEntity> execution = executor.execute(request, CursorEntity.class, hostHandle);
-        return execution.thenApply(result -> createCursor(result, type, options, hostHandle));
+        return execution.thenApply(result -> createCursor(result, type, options, hostHandle, resumeAfter -> {
+            final CompletableFuture<CursorEntity> resumed = executor.execute(
+                    resumeQueryRequest(query, bindVars, options, resumeAfter), CursorEntity.class, hostHandle);
+            try {
+                return resumed.get();
+            } catch (InterruptedException | ExecutionException e) {
+                throw new ArangoDBException(e);
+            }
+        }));
     }
 
     @Override
@@ -192,21 +206,75 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
     public <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String cursorId, final Class<T> type) {
         final HostHandle hostHandle = new HostHandle();
         final CompletableFuture<CursorEntity> execution = executor.execute(queryNextRequest(cursorId, null, null), CursorEntity.class, hostHandle);
-        return execution.thenApply(result -> createCursor(result, type, null, hostHandle));
+        return execution.thenApply(result -> createCursor(result, type, null, hostHandle, null));
+    }
+
+    @Override
+    public <T> ArangoPublisher<T> queryPublisher(
+            final String query,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final Class<T> type) {
+        return new ArangoQueryPublisher<>(this, () -> {
+            final HostHandle hostHandle = new HostHandle();
+            return new ArangoQueryPublisher.AsyncCursorExecute() {
+                @Override
+                public CompletableFuture<CursorEntity> query() {
+                    return executor.execute(queryRequest(query, bindVars, options), CursorEntity.class, hostHandle);
+                }
+
+                @Override
+                public CompletableFuture<CursorEntity> next(final String id, final Map<String, String> meta) {
+                    return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
+                }
+
+                @Override
+                public CompletableFuture<Void> close(final String id, final Map<String, String> meta) {
+                    return executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
+                }
+            };
+        }, type);
+    }
+
+    @Override
+    public <T> ArangoPreparedQueryAsync<T> prepareQuery(
+            final String query,
+            final AqlQueryOptions options,
+            final Class<T> type) {
+        return new ArangoPreparedQueryAsyncImpl<>(this, query, queryTemplate(query, options),
+                preparedQueryOptions(options), type);
+    }
+
+    <T> CompletableFuture<ArangoCursorAsync<T>> executePreparedQuery(
+            final VPackSlice template,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final Class<T> type) {
+        final Request request = preparedQueryRequest(template, bindVars, options);
+        final HostHandle hostHandle = new HostHandle();
+        final CompletableFuture<CursorEntity> execution = executor.execute(request, CursorEntity.class, hostHandle);
+        return execution.thenApply(result -> createCursor(result, type, options, hostHandle, null));
     }
 
     private <T> ArangoCursorAsync<T> createCursor(
             final CursorEntity result,
             final Class<T> type,
             final AqlQueryOptions options,
-            final HostHandle hostHandle) {
-        return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecute() {
+            final HostHandle hostHandle,
+            final Function<VPackSlice, CursorEntity> resume) {
+        final BatchSizeTuner tuner = BatchSizeTuner.of(options, result);
+        final ArangoCursorExecute execute = new ArangoCursorExecute() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
-                final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id, options, meta),
+                final CompletableFuture<CursorEntity> result = executor.execute(
+                        queryNextRequest(id, options, meta, tuner != null ? tuner.beforeNext() : null),
                         CursorEntity.class, hostHandle);
                 try {
-                    return result.get();
+                    final CursorEntity next = result.get();
+                    if (tuner != null) {
+                        tuner.afterNext(next);
+                    }
+                    return next;
                 } catch (InterruptedException | ExecutionException e) {
                     throw new ArangoDBException(e);
                 }
@@ -220,7 +288,12 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
                     throw new ArangoDBException(e);
                 }
             }
-        }, type, result);
+        };
+        final CursorRegistry registry = arango().cursorRegistry();
+        final ArangoCursorExecute resumable = ResumableCursorExecute.of(execute, result, options, hostHandle, resume);
+        final ArangoCursorExecute tracked = registry.track(PrefetchingCursorExecute.of(resumable, result, options),
+                result);
+        return registry.register(new ArangoCursorAsyncImpl<>(this, tracked, type, result), tracked);
     }
 
     @Override
@@ -0,0 +1,66 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.async.ArangoCursorAsync;
+import com.arangodb.async.ArangoPreparedQueryAsync;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * @author Michele Rastelli
+ */
+public class ArangoPreparedQueryAsyncImpl<T> implements ArangoPreparedQueryAsync<T> {
+
+    private final ArangoDatabaseAsyncImpl db;
+    private final String query;
+    private final VPackSlice template;
+    private final AqlQueryOptions options;
+    private final Class<T> type;
+
+    protected ArangoPreparedQueryAsyncImpl(
+            final ArangoDatabaseAsyncImpl db,
+            final String query,
+            final VPackSlice template,
+            final AqlQueryOptions options,
+            final Class<T> type) {
+        super();
+        this.db = db;
+        this.query = query;
+        this.template = template;
+        this.options = options;
+        this.type = type;
+    }
+
+    @Override
+    public String getQuery() {
+        return query;
+    }
+
+    @Override
+    public CompletableFuture<ArangoCursorAsync<T>> execute(final Map<String, Object> bindVars) {
+        return db.executePreparedQuery(template, bindVars, options, type);
+    }
+
+}
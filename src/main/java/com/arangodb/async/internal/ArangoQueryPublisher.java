@@ -0,0 +1,198 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.async.internal;
+
+import com.arangodb.async.ArangoPublisher;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * @author Michele Rastelli
+ */
+public class ArangoQueryPublisher<T> implements ArangoPublisher<T> {
+
+    /**
+     * Non-blocking cursor requests
+     */
+    interface AsyncCursorExecute {
+
+        CompletableFuture<CursorEntity> query();
+
+        CompletableFuture<CursorEntity> next(String id, Map<String, String> meta);
+
+        CompletableFuture<Void> close(String id, Map<String, String> meta);
+
+    }
+
+    private final InternalArangoDatabase<?, ?> db;
+    private final Supplier<AsyncCursorExecute> executeFactory;
+    private final Class<T> type;
+
+    /**
+     * @param executeFactory creates the requests of a new subscription
+     */
+    ArangoQueryPublisher(
+            final InternalArangoDatabase<?, ?> db,
+            final Supplier<AsyncCursorExecute> executeFactory,
+            final Class<T> type) {
+        super();
+        this.db = db;
+        this.executeFactory = executeFactory;
+        this.type = type;
+    }
+
+    @Override
+    public void subscribe(final Subscriber<? super T> subscriber) {
+        final QuerySubscription subscription = new QuerySubscription(subscriber, executeFactory.get());
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class QuerySubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AsyncCursorExecute execute;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile CursorEntity result;
+        private volatile Iterator<VPackSlice> batch;
+        private volatile Throwable error;
+        private volatile boolean fetching;
+        private volatile boolean cancelled;
+        private boolean done;
+        private boolean closed;
+
+        private QuerySubscription(final Subscriber<? super T> subscriber, final AsyncCursorExecute execute) {
+            super();
+            this.subscriber = subscriber;
+            this.execute = execute;
+        }
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("non-positive subscription request: " + n);
+            } else {
+                long current;
+                long updated;
+                do {
+                    current = demand.get();
+                    updated = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!demand.compareAndSet(current, updated));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Emits the elements of the current batch while there is demand, and fetches the next batch when needed. Only
+         * one thread at a time runs the loop, invocations from other threads are taken into account by the running
+         * one.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                if (done && !closed && !fetching) {
+                    closed = true;
+                    batch = null;
+                    close();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!cancelled && error == null && demand.get() > 0 && batch != null && batch.hasNext()) {
+                final T element;
+                try {
+                    element = db.util(Serializer.CUSTOM).deserialize(batch.next(), type);
+                } catch (final RuntimeException e) {
+                    error = e;
+                    break;
+                }
+                subscriber.onNext(element);
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+            }
+            if (cancelled) {
+                done = true;
+            } else if (error != null) {
+                done = true;
+                subscriber.onError(error);
+            } else if (batch == null || !batch.hasNext()) {
+                if (result != null && !result.getHasMore()) {
+                    done = true;
+                    subscriber.onComplete();
+                } else if (demand.get() > 0 && !fetching) {
+                    fetch();
+                }
+            }
+        }
+
+        private void fetch() {
+            fetching = true;
+            final CursorEntity current = result;
+            final CompletableFuture<CursorEntity> next = current == null ?
+                    execute.query() :
+                    execute.next(current.getId(), current.getMeta());
+            next.whenComplete((entity, e) -> {
+                if (e != null) {
+                    error = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                } else {
+                    result = entity;
+                    batch = entity.getResult().arrayIterator();
+                }
+                fetching = false;
+                drain();
+            });
+        }
+
+        private void close() {
+            final CursorEntity current = result;
+            if (current != null && current.getId() != null && current.getHasMore()) {
+                execute.close(current.getId(), current.getMeta());
+            }
+        }
+
+    }
+
+}
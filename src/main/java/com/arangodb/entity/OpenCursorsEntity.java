@@ -0,0 +1,53 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+/**
+ * Cursors opened by the driver which still hold results on the server.
+ *
+ * @author Michele Rastelli
+ */
+public class OpenCursorsEntity implements Entity {
+
+    private final int count;
+    private final Long oldestAge;
+
+    public OpenCursorsEntity(final int count, final Long oldestAge) {
+        super();
+        this.count = count;
+        this.oldestAge = oldestAge;
+    }
+
+    /**
+     * @return number of cursors which have been neither exhausted nor closed
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return age in milliseconds of the oldest open cursor, {@code null} if there are no open cursors
+     */
+    public Long getOldestAge() {
+        return oldestAge;
+    }
+
+}
@@ -22,14 +22,37 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.Consumer;
+import com.arangodb.MultiDocumentConsumer;
+import com.arangodb.WriteBehindWriter;
 import com.arangodb.entity.*;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -40,22 +63,103 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ArangoCollection.class);
 
+    private final WriteCoalescer coalescer;
+
     protected ArangoCollectionImpl(final ArangoDatabaseImpl db, final String name) {
+        this(db, name, null);
+    }
+
+    private ArangoCollectionImpl(final ArangoDatabaseImpl db, final String name, final WriteCoalescer coalescer) {
         super(db, name);
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public ArangoCollection withWriteCoalescing(final WriteCoalescingOptions options) {
+        return new ArangoCollectionImpl(db(), name,
+                new WriteCoalescer(options != null ? options : new WriteCoalescingOptions()));
     }
 
     @Override
     public <T> DocumentCreateEntity<T> insertDocument(final T value) throws ArangoDBException {
-        return insertDocument(value, new DocumentCreateOptions());
+        return insertDocument(value, null);
     }
 
     @Override
     public <T> DocumentCreateEntity<T> insertDocument(final T value, final DocumentCreateOptions options)
             throws ArangoDBException {
+        if (coalescer != null && (options == null || Boolean.TRUE != options.getSilent())) {
+            return coalescer.submit(Arrays.asList(options, value.getClass()), null, value,
+                    entries -> insertCoalesced(entries, options));
+        }
         return executor
                 .execute(insertDocumentRequest(value, options), insertDocumentResponseDeserializer(value, options));
     }
 
+    private void insertCoalesced(final List<WriteCoalescer.Entry> entries, final DocumentCreateOptions options) {
+        if (entries.size() == 1) {
+            final Object value = entries.get(0).value;
+            entries.get(0).result.complete(executor.execute(insertDocumentRequest(value, options),
+                    insertDocumentResponseDeserializer(value, options)));
+            return;
+        }
+        final List<Object> values = new ArrayList<>(entries.size());
+        for (final WriteCoalescer.Entry entry : entries) {
+            values.add(entry.value);
+        }
+        final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+        final MultiDocumentEntity<DocumentCreateEntity<Object>> result = executor
+                .execute(insertDocumentsRequest(values, params), insertDocumentsResponseDeserializer(values, params));
+        final Iterator<WriteCoalescer.Entry> iterator = entries.iterator();
+        for (final Object element : result.getDocumentsAndErrors()) {
+            final WriteCoalescer.Entry entry = iterator.next();
+            if (element instanceof ErrorEntity) {
+                entry.result.completeExceptionally(coalescedError((ErrorEntity) element));
+            } else {
+                final DocumentCreateEntity<?> doc = (DocumentCreateEntity<?>) element;
+                final Map<DocumentField.Type, String> fields = new HashMap<>();
+                fields.put(DocumentField.Type.ID, doc.getId());
+                fields.put(DocumentField.Type.KEY, doc.getKey());
+                fields.put(DocumentField.Type.REV, doc.getRev());
+                executor.documentCache().setValues(entry.value, fields);
+                entry.result.complete(doc);
+            }
+        }
+    }
+
+    /**
+     * The errors of multi-document responses carry no response code, which is derived from the error number as the
+     * server does for the single-document requests.
+     */
+    private ArangoDBException coalescedError(final ErrorEntity error) {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("error", true);
+        builder.add("code", responseCode(error));
+        builder.add("errorNum", error.getErrorNum());
+        if (error.getErrorMessage() != null) {
+            builder.add("errorMessage", error.getErrorMessage());
+        }
+        builder.close();
+        final ErrorEntity entity = util().deserialize(builder.slice(), ErrorEntity.class);
+        return new ArangoDBException(entity);
+    }
+
+    private static int responseCode(final ErrorEntity error) {
+        final int errorNum = error.getErrorNum();
+        if (ArangoErrors.ERROR_ARANGO_CONFLICT == errorNum) {
+            final String message = error.getErrorMessage();
+            return message != null && message.contains("_rev") ? 412 : 409;
+        }
+        if (ArangoErrors.ERROR_ARANGO_UNIQUE_CONSTRAINT_VIOLATED == errorNum) {
+            return 409;
+        }
+        if (ArangoErrors.ERROR_ARANGO_DOCUMENT_NOT_FOUND == errorNum) {
+            return 404;
+        }
+        return 400;
+    }
+
     @Override
     public <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertDocuments(final Collection<T> values)
             throws ArangoDBException {
@@ -70,6 +174,15 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
                 .execute(insertDocumentsRequest(values, params), insertDocumentsResponseDeserializer(values, params));
     }
 
+    @Override
+    public <T> void insertDocuments(
+            final Collection<T> values, final DocumentCreateOptions options,
+            final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer) throws ArangoDBException {
+        final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+        executor.execute(insertDocumentsRequest(values, params),
+                insertDocumentsResponseDeserializer(values, params, consumer));
+    }
+
     @Override
     public DocumentImportEntity importDocuments(final Collection<?> values) throws ArangoDBException {
         return importDocuments(values, new DocumentImportOptions());
@@ -81,6 +194,23 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         return executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
     }
 
+    @Override
+    public DocumentImportEntity importDocuments(final InputStream values, final DocumentImportOptions options)
+            throws ArangoDBException {
+        return new StreamingDocumentImport(this, options)
+                .execute(new BufferedReader(new InputStreamReader(values, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public DocumentImportEntity importDocuments(final Path values, final DocumentImportOptions options)
+            throws ArangoDBException {
+        try (BufferedReader reader = Files.newBufferedReader(values, StandardCharsets.UTF_8)) {
+            return new StreamingDocumentImport(this, options).execute(reader);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
     @Override
     public DocumentImportEntity importDocuments(final String values) throws ArangoDBException {
         return importDocuments(values, new DocumentImportOptions());
@@ -131,9 +261,49 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     public <T> MultiDocumentEntity<T> getDocuments(
             final Collection<String> keys, final Class<T> type, final DocumentReadOptions options)
             throws ArangoDBException {
+        if (isSplit(keys, options)) {
+            return BatchedExecution.collect(new ArrayList<>(keys), options.getBatchSize(), parallelism(options),
+                    batch -> executor.execute(getDocumentsRequest(batch, options),
+                            getDocumentsResponseDeserializer(type, options)));
+        }
         return executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options));
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> void getDocuments(
+            final Collection<String> keys, final Class<T> type, final DocumentReadOptions options,
+            final MultiDocumentConsumer<? super T> consumer) throws ArangoDBException {
+        if (isSplit(keys, options)) {
+            BatchedExecution.execute(new ArrayList<>(keys), options.getBatchSize(), parallelism(options),
+                    batch -> executor.execute(getDocumentsRequest(batch, options),
+                            getDocumentsResponseDeserializer(type, options)),
+                    result -> {
+                        for (final Object element : result.getDocumentsAndErrors()) {
+                            if (element instanceof ErrorEntity) {
+                                consumer.error((ErrorEntity) element);
+                            } else {
+                                consumer.document((T) element);
+                            }
+                        }
+                    });
+            return;
+        }
+        executor.execute(getDocumentsRequest(keys, options), getDocumentsResponseDeserializer(type, options, consumer));
+    }
+
+    private static boolean isSplit(final Collection<String> keys, final DocumentReadOptions options) {
+        return options != null && options.getBatchSize() != null && keys.size() > options.getBatchSize();
+    }
+
+    private static int parallelism(final DocumentReadOptions options) {
+        if (options.getStreamTransactionId() != null) {
+            // requests of a stream transaction must not be executed concurrently
+            return 1;
+        }
+        return options.getParallelism() != null ? options.getParallelism() : BatchedExecution.DEFAULT_PARALLELISM;
+    }
+
     @Override
     public <T> DocumentUpdateEntity<T> replaceDocument(final String key, final T value) throws ArangoDBException {
         return replaceDocument(key, value, new DocumentReplaceOptions());
@@ -162,7 +332,7 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
 
     @Override
     public <T> DocumentUpdateEntity<T> updateDocument(final String key, final T value) throws ArangoDBException {
-        return updateDocument(key, value, new DocumentUpdateOptions());
+        return updateDocument(key, value, null);
     }
 
     @Override
@@ -174,10 +344,58 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
     @Override
     public <T, U> DocumentUpdateEntity<U> updateDocument(
             final String key, final T value, final DocumentUpdateOptions options, final Class<U> returnType) throws ArangoDBException {
+        if (coalescer != null
+                && (options == null || (options.getIfMatch() == null && Boolean.TRUE != options.getSilent()))) {
+            return coalescer.submit(Arrays.asList(options, returnType), key, value,
+                    entries -> updateCoalesced(entries, options, returnType));
+        }
         return executor.execute(updateDocumentRequest(key, value, options),
                 updateDocumentResponseDeserializer(value, options, returnType));
     }
 
+    private <U> void updateCoalesced(
+            final List<WriteCoalescer.Entry> entries, final DocumentUpdateOptions options, final Class<U> returnType) {
+        if (entries.size() == 1) {
+            final WriteCoalescer.Entry entry = entries.get(0);
+            entry.result.complete(executor.execute(updateDocumentRequest(entry.key, entry.value, options),
+                    updateDocumentResponseDeserializer(entry.value, options, returnType)));
+            return;
+        }
+        final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
+        final ArangoSerializer.Options serializerOptions = new ArangoSerializer.Options()
+                .serializeNullValues(params.getSerializeNull() == null || params.getSerializeNull())
+                .stringAsJson(true);
+        final List<VPackSlice> values = new ArrayList<>(entries.size());
+        for (final WriteCoalescer.Entry entry : entries) {
+            final VPackSlice value = util(Serializer.CUSTOM).serialize(entry.value, serializerOptions);
+            final VPackBuilder builder = new VPackBuilder();
+            builder.add(ValueType.OBJECT);
+            builder.add(DocumentField.Type.KEY.getSerializeName(), entry.key);
+            for (final Iterator<Map.Entry<String, VPackSlice>> it = value.objectIterator(); it.hasNext(); ) {
+                final Map.Entry<String, VPackSlice> attribute = it.next();
+                if (!DocumentField.Type.KEY.getSerializeName().equals(attribute.getKey())) {
+                    builder.add(attribute.getKey(), attribute.getValue());
+                }
+            }
+            builder.close();
+            values.add(builder.slice());
+        }
+        final MultiDocumentEntity<DocumentUpdateEntity<U>> result = executor
+                .execute(updateDocumentsRequest(values, params), updateDocumentsResponseDeserializer(returnType));
+        final Iterator<WriteCoalescer.Entry> iterator = entries.iterator();
+        for (final Object element : result.getDocumentsAndErrors()) {
+            final WriteCoalescer.Entry entry = iterator.next();
+            if (element instanceof ErrorEntity) {
+                entry.result.completeExceptionally(coalescedError((ErrorEntity) element));
+            } else {
+                final DocumentUpdateEntity<?> doc = (DocumentUpdateEntity<?>) element;
+                executor.documentCache().setValues(entry.value,
+                        Collections.singletonMap(DocumentField.Type.REV, doc.getRev()));
+                entry.result.complete(doc);
+            }
+        }
+    }
+
     @Override
     public <T> MultiDocumentEntity<DocumentUpdateEntity<T>> updateDocuments(final Collection<T> values)
             throws ArangoDBException {
@@ -391,6 +609,56 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
         return executor.execute(responsibleShardRequest(value), ShardEntity.class);
     }
 
+    Collection<String> getShards() throws ArangoDBException {
+        return executor.execute(getShardsRequest(), getShardsResponseDeserializer());
+    }
+
+    @Override
+    public <T> void exportParallel(
+            final Class<T> type,
+            final CollectionExportOptions options,
+            final Consumer<? super T> consumer) throws ArangoDBException {
+        new ParallelCollectionExport<>(this, type, options, consumer).execute();
+    }
+
+    @Override
+    public long deleteWhere(final String filter, final Map<String, Object> bindVars, final DeleteWhereOptions options)
+            throws ArangoDBException {
+        return new DeleteWhere(this, filter, bindVars, options).execute();
+    }
+
+    @Override
+    public <T> MultiDocumentEntity<DocumentCreateEntity<T>> upsertAll(
+            final Stream<T> values, final boolean merge, final UpsertOptions options) throws ArangoDBException {
+        return new BulkUpsert(this, merge, options).execute(values);
+    }
+
+    @Override
+    public WriteBehindWriter writeBehind(final WriteBehindOptions options) throws ArangoDBException {
+        return new WriteBehindWriterImpl(this, options);
+    }
+
+    @Override
+    public <T> CollectionEntity reload(final Iterable<T> values, final CollectionReloadOptions options)
+            throws ArangoDBException {
+        return new CollectionReload(this, options).execute(values);
+    }
+
+    @Override
+    public <T> BulkWriter<T> bulkWriter(
+            final BulkWriterOptions options,
+            final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer) {
+        return new BulkWriterImpl<>(this, options != null ? options : new BulkWriterOptions(), consumer);
+    }
+
+    <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertDocuments(
+            final Collection<T> values,
+            final Collection<VPackSlice> serialized,
+            final DocumentCreateOptions params) throws ArangoDBException {
+        return executor.execute(insertDocumentsRequest(serialized, params),
+                insertDocumentsResponseDeserializer(values, params));
+    }
+
     @Override
     public CollectionRevisionEntity getRevision() throws ArangoDBException {
         return executor.execute(getRevisionRequest(), CollectionRevisionEntity.class);
@@ -171,6 +171,11 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
         return executor.execute(getRoleRequest(), getRoleResponseDeserializer());
     }
 
+    @Override
+    public OpenCursorsEntity getOpenCursors() {
+        return cursorRegistry().getOpenCursors();
+    }
+
     @Override
     public UserEntity createUser(final String user, final String passwd) throws ArangoDBException {
         return executor.execute(createUserRequest(db().name(), user, passwd, new UserCreateOptions()),
@@ -25,18 +25,28 @@ import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.BatchSizeTuner;
+import com.arangodb.internal.cursor.CursorRegistry;
+import com.arangodb.internal.cursor.PrefetchingCursorExecute;
+import com.arangodb.internal.cursor.ResumableCursorExecute;
 import com.arangodb.internal.net.HostHandle;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
 import com.arangodb.model.arangosearch.AnalyzerDeleteOptions;
 import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
 import com.arangodb.util.ArangoCursorInitializer;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * @author Mark Vollmary
@@ -170,10 +180,40 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
         final HostHandle hostHandle = new HostHandle();
         final CursorEntity result = executor.execute(request, CursorEntity.class, hostHandle);
 
-        return createCursor(result, type, options, hostHandle);
+        return createCursor(result, type, options, hostHandle, resumeAfter -> executor.execute(
+                resumeQueryRequest(query, bindVars, options, resumeAfter), CursorEntity.class, hostHandle));
 
     }
 
+    @Override
+    public <T> List<List<T>> queryBatch(
+            final String query,
+            final List<Map<String, Object>> bindVarSets,
+            final AqlQueryOptions options,
+            final Class<T> type) throws ArangoDBException {
+        if (bindVarSets.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Request request = queryBatchRequest(query, bindVarSets, options);
+        final HostHandle hostHandle = new HostHandle();
+        final CursorEntity result = executor.execute(request, CursorEntity.class, hostHandle);
+        final ArangoCursor<VPackSlice> cursor = createCursor(result, VPackSlice.class, options, hostHandle, null);
+        final List<List<T>> results = new ArrayList<>(bindVarSets.size());
+        while (cursor.hasNext()) {
+            final List<T> values = new ArrayList<>();
+            for (final Iterator<VPackSlice> iterator = cursor.next().arrayIterator(); iterator.hasNext(); ) {
+                values.add(deserialize(iterator.next(), type));
+            }
+            results.add(values);
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T deserialize(final VPackSlice value, final Class<T> type) {
+        return type == VPackSlice.class ? (T) value : util(Serializer.CUSTOM).deserialize(value, type);
+    }
+
     @Override
     public <T> ArangoCursor<T> query(
             final String query, final Map<String, Object> bindVars, final Class<T> type) throws ArangoDBException {
@@ -196,19 +236,46 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
         final HostHandle hostHandle = new HostHandle();
         final CursorEntity result = executor
                 .execute(queryNextRequest(cursorId, null, null), CursorEntity.class, hostHandle);
-        return createCursor(result, type, null, hostHandle);
+        return createCursor(result, type, null, hostHandle, null);
+    }
+
+    @Override
+    public <T> ArangoPreparedQuery<T> prepareQuery(
+            final String query, final AqlQueryOptions options, final Class<T> type) throws ArangoDBException {
+        return new ArangoPreparedQueryImpl<>(this, query, queryTemplate(query, options),
+                preparedQueryOptions(options), type);
+    }
+
+    <T> ArangoCursor<T> executePreparedQuery(
+            final VPackSlice template,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final Class<T> type) throws ArangoDBException {
+        final Request request = preparedQueryRequest(template, bindVars, options);
+        final HostHandle hostHandle = new HostHandle();
+        final CursorEntity result = executor.execute(request, CursorEntity.class, hostHandle);
+        return createCursor(result, type, options, hostHandle, null);
     }
 
     private <T> ArangoCursor<T> createCursor(
             final CursorEntity result,
             final Class<T> type,
             final AqlQueryOptions options,
-            final HostHandle hostHandle) {
+            final HostHandle hostHandle,
+            final Function<VPackSlice, CursorEntity> resume) {
 
+        final CursorRegistry registry = arango().cursorRegistry();
+        final BatchSizeTuner tuner = BatchSizeTuner.of(options, result);
         final ArangoCursorExecute execute = new ArangoCursorExecute() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
-                return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
+                if (tuner == null) {
+                    return executor.execute(queryNextRequest(id, options, meta), CursorEntity.class, hostHandle);
+                }
+                final CursorEntity next = executor.execute(queryNextRequest(id, options, meta, tuner.beforeNext()),
+                        CursorEntity.class, hostHandle);
+                tuner.afterNext(next);
+                return next;
             }
 
             @Override
@@ -216,10 +283,13 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
                 executor.execute(queryCloseRequest(id, options, meta), Void.class, hostHandle);
             }
         };
+        final ArangoCursorExecute resumable = ResumableCursorExecute.of(execute, result, options, hostHandle, resume);
+        final ArangoCursorExecute tracked = registry.track(PrefetchingCursorExecute.of(resumable, result, options),
+                result);
 
-        return cursorInitializer != null ?
-                cursorInitializer.createInstance(this, execute, type, result) :
-                new ArangoCursorImpl<>(this, execute, type, result);
+        return registry.register(cursorInitializer != null ?
+                cursorInitializer.createInstance(this, tracked, type, result) :
+                new ArangoCursorImpl<>(this, tracked, type, result), tracked);
     }
 
     @Override
@@ -22,12 +22,30 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoEdgeCollection;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.EdgeDefinition;
 import com.arangodb.entity.EdgeEntity;
 import com.arangodb.entity.EdgeUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.model.*;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Mark Vollmary
  */
@@ -36,6 +54,7 @@ public class ArangoEdgeCollectionImpl
         implements ArangoEdgeCollection {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ArangoEdgeCollectionImpl.class);
+    private static final int ERROR_GRAPH_INVALID_EDGE = 1906;
 
     protected ArangoEdgeCollectionImpl(final ArangoGraphImpl graph, final String name) {
         super(graph, name);
@@ -111,4 +130,108 @@ public class ArangoEdgeCollectionImpl
         executor.execute(deleteEdgeRequest(key, options), Void.class);
     }
 
+    @Override
+    public <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertEdges(
+            final Collection<T> values, final GraphBatchOptions options) throws ArangoDBException {
+        final GraphBatchOptions params = options != null ? options : new GraphBatchOptions();
+        final EdgeDefinition definition = edgeDefinition();
+        final ArangoSerializer.Options serializerOptions = new ArangoSerializer.Options()
+                .serializeNullValues(false).stringAsJson(true);
+        final List<T> edges = new ArrayList<>(values.size());
+        final List<VPackSlice> serialized = new ArrayList<>(values.size());
+        final List<Integer> valid = new ArrayList<>(values.size());
+        final Map<Integer, ErrorEntity> invalid = new HashMap<>();
+        for (final T value : values) {
+            final VPackSlice edge = util(Serializer.CUSTOM).serialize(value, serializerOptions);
+            final String from = attribute(edge, DocumentField.Type.FROM);
+            final String to = attribute(edge, DocumentField.Type.TO);
+            if (isVertexOf(from, definition.getFrom()) && isVertexOf(to, definition.getTo())) {
+                valid.add(edges.size());
+            } else {
+                invalid.put(edges.size(), invalidEdge(from, to));
+            }
+            edges.add(value);
+            serialized.add(edge);
+        }
+        final ArangoCollectionImpl collection = (ArangoCollectionImpl) graph().db().collection(name());
+        final DocumentCreateOptions createOptions = new DocumentCreateOptions().waitForSync(params.getWaitForSync());
+        final MultiDocumentEntity<DocumentCreateEntity<T>> result = BatchedExecution.collect(valid,
+                batchSize(params), parallelism(params), batch -> {
+                    final List<T> batchValues = new ArrayList<>(batch.size());
+                    final List<VPackSlice> batchSerialized = new ArrayList<>(batch.size());
+                    for (final Integer index : batch) {
+                        batchValues.add(edges.get(index));
+                        batchSerialized.add(serialized.get(index));
+                    }
+                    return collection.insertDocuments(batchValues, batchSerialized, createOptions);
+                });
+        if (invalid.isEmpty()) {
+            return result;
+        }
+        final List<ErrorEntity> errors = new ArrayList<>();
+        final List<Object> documentsAndErrors = new ArrayList<>(edges.size());
+        final Iterator<Object> inserted = result.getDocumentsAndErrors().iterator();
+        for (int i = 0; i < edges.size(); i++) {
+            final Object element = invalid.containsKey(i) ? invalid.get(i) : inserted.next();
+            if (element instanceof ErrorEntity) {
+                errors.add((ErrorEntity) element);
+            }
+            documentsAndErrors.add(element);
+        }
+        result.setErrors(errors);
+        result.setDocumentsAndErrors(documentsAndErrors);
+        return result;
+    }
+
+    @Override
+    public MultiDocumentEntity<DocumentDeleteEntity<Void>> deleteEdges(
+            final Collection<String> keys, final GraphBatchOptions options) throws ArangoDBException {
+        final GraphBatchOptions params = options != null ? options : new GraphBatchOptions();
+        edgeDefinition();
+        final ArangoCollectionImpl collection = (ArangoCollectionImpl) graph().db().collection(name());
+        final DocumentDeleteOptions deleteOptions = new DocumentDeleteOptions().waitForSync(params.getWaitForSync());
+        return BatchedExecution.collect(new ArrayList<>(keys), batchSize(params), parallelism(params),
+                batch -> collection.deleteDocuments(batch, Void.class, deleteOptions));
+    }
+
+    private EdgeDefinition edgeDefinition() {
+        for (final EdgeDefinition definition : graph().getInfo().getEdgeDefinitions()) {
+            if (name().equals(definition.getCollection())) {
+                return definition;
+            }
+        }
+        throw new ArangoDBException(
+                String.format("Collection %s is not used in an edge definition of graph %s", name(), graph().name()));
+    }
+
+    private static String attribute(final VPackSlice edge, final DocumentField.Type field) {
+        final VPackSlice value = edge.get(field.getSerializeName());
+        return value.isString() ? value.getAsString() : null;
+    }
+
+    private static boolean isVertexOf(final String id, final Collection<String> collections) {
+        final int separator = id != null ? id.indexOf('/') : -1;
+        return separator > 0 && collections.contains(id.substring(0, separator));
+    }
+
+    private ErrorEntity invalidEdge(final String from, final String to) {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("error", true);
+        builder.add("code", 400);
+        builder.add("errorNum", ERROR_GRAPH_INVALID_EDGE);
+        builder.add("errorMessage", String.format("invalid edge between %s and %s. Doesn't conform to any edge "
+                + "definition of graph %s", from, to, graph().name()));
+        builder.close();
+        return util().deserialize(builder.slice(), ErrorEntity.class);
+    }
+
+    private static int batchSize(final GraphBatchOptions options) {
+        return options.getBatchSize() != null ? options.getBatchSize() : BatchedExecution.DEFAULT_BATCH_SIZE;
+    }
+
+    private static int parallelism(final GraphBatchOptions options) {
+        return options.getParallelism() != null ? options.getParallelism() : BatchedExecution.DEFAULT_PARALLELISM;
+    }
+
 }
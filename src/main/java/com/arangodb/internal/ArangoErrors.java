@@ -29,7 +29,11 @@ public final class ArangoErrors {
         super();
     }
 
+    public static final Integer ERROR_LOCK_TIMEOUT = 18;
+    public static final Integer ERROR_ARANGO_CONFLICT = 1200;
+    public static final Integer ERROR_ARANGO_DOCUMENT_NOT_FOUND = 1202;
     public static final Integer ERROR_ARANGO_DATA_SOURCE_NOT_FOUND = 1203;
+    public static final Integer ERROR_ARANGO_UNIQUE_CONSTRAINT_VIOLATED = 1210;
     public static final Integer ERROR_ARANGO_DATABASE_NOT_FOUND = 1228;
     public static final Integer ERROR_GRAPH_NOT_FOUND = 1924;
 
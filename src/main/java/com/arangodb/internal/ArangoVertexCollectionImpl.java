@@ -22,12 +22,17 @@ package com.arangodb.internal;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoVertexCollection;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.entity.VertexUpdateEntity;
 import com.arangodb.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+
 /**
  * @author Mark Vollmary
  */
@@ -57,6 +62,22 @@ public class ArangoVertexCollectionImpl
         return executor.execute(insertVertexRequest(value, options), insertVertexResponseDeserializer(value));
     }
 
+    @Override
+    public <T> MultiDocumentEntity<DocumentCreateEntity<T>> insertVertices(
+            final Collection<T> values, final GraphBatchOptions options) throws ArangoDBException {
+        final GraphBatchOptions params = options != null ? options : new GraphBatchOptions();
+        if (!graph().getVertexCollections().contains(name())) {
+            throw new ArangoDBException(
+                    String.format("Collection %s is not a vertex collection of graph %s", name(), graph().name()));
+        }
+        final ArangoCollectionImpl collection = (ArangoCollectionImpl) graph().db().collection(name());
+        final DocumentCreateOptions createOptions = new DocumentCreateOptions().waitForSync(params.getWaitForSync());
+        return BatchedExecution.collect(new ArrayList<>(values),
+                params.getBatchSize() != null ? params.getBatchSize() : BatchedExecution.DEFAULT_BATCH_SIZE,
+                params.getParallelism() != null ? params.getParallelism() : BatchedExecution.DEFAULT_PARALLELISM,
+                batch -> collection.insertDocuments(batch, createOptions));
+    }
+
     @Override
     public <T> T getVertex(final String key, final Class<T> type) throws ArangoDBException {
         try {
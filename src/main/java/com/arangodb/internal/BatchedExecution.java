@@ -0,0 +1,131 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executes a multi-document operation in batches, with a bounded number of batches in flight. The batches are
+ * executed by a shared pool of daemon threads, which grows with the batches in flight of all the executions.
+ *
+ * @author Michele Rastelli
+ */
+final class BatchedExecution {
+
+    static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int DEFAULT_PARALLELISM = 4;
+
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L,
+            TimeUnit.SECONDS, new SynchronousQueue<>(), new BatchThreadFactory());
+
+    private BatchedExecution() {
+        super();
+    }
+
+    /**
+     * Executes {@code operation} on batches of up to {@code batchSize} elements, with up to {@code parallelism}
+     * batches in flight, and passes the results to {@code action} in the order of the elements.
+     */
+    static <E, R> void execute(
+            final List<E> elements,
+            final int batchSize,
+            final int parallelism,
+            final Function<List<E>, R> operation,
+            final Consumer<R> action) throws ArangoDBException {
+        if (batchSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("batchSize and parallelism must be positive");
+        }
+        final Deque<Future<R>> pending = new ArrayDeque<>();
+        try {
+            int from = 0;
+            while (from < elements.size() || !pending.isEmpty()) {
+                while (from < elements.size() && pending.size() < parallelism) {
+                    final List<E> batch = elements.subList(from, Math.min(from + batchSize, elements.size()));
+                    from += batch.size();
+                    pending.add(EXECUTOR.submit(() -> operation.apply(batch)));
+                }
+                action.accept(pending.poll().get());
+            }
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        } finally {
+            for (final Future<R> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #execute(List, int, int, Function, Consumer)}, merging the results of the batches.
+     */
+    static <E, T> MultiDocumentEntity<T> collect(
+            final List<E> elements,
+            final int batchSize,
+            final int parallelism,
+            final Function<List<E>, MultiDocumentEntity<T>> operation) throws ArangoDBException {
+        final List<T> documents = new ArrayList<>();
+        final List<ErrorEntity> errors = new ArrayList<>();
+        final List<Object> documentsAndErrors = new ArrayList<>();
+        execute(elements, batchSize, parallelism, operation, batch -> {
+            documents.addAll(batch.getDocuments());
+            errors.addAll(batch.getErrors());
+            documentsAndErrors.addAll(batch.getDocumentsAndErrors());
+        });
+        final MultiDocumentEntity<T> result = new MultiDocumentEntity<>();
+        result.setDocuments(documents);
+        result.setErrors(errors);
+        result.setDocumentsAndErrors(documentsAndErrors);
+        return result;
+    }
+
+    private static class BatchThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "adb-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
+import com.arangodb.model.UpsertOptions;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Inserts documents with an overwrite mode in batches, retrying the documents of a batch that failed with a
+ * write-write conflict or a lock timeout. The documents are serialized once and only the failed ones are sent again.
+ *
+ * @author Michele Rastelli
+ */
+class BulkUpsert {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_MAX_RETRIES = 5;
+    private static final long DEFAULT_RETRY_DELAY = 50;
+
+    private final ArangoCollectionImpl collection;
+    private final DocumentCreateOptions createOptions;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryDelay;
+
+    BulkUpsert(final ArangoCollectionImpl collection, final boolean merge, final UpsertOptions options) {
+        super();
+        final UpsertOptions params = options != null ? options : new UpsertOptions();
+        this.collection = collection;
+        createOptions = new DocumentCreateOptions()
+                .overwriteMode(merge ? OverwriteMode.update : OverwriteMode.replace)
+                .mergeObjects(merge ? true : null)
+                .waitForSync(params.getWaitForSync());
+        batchSize = params.getBatchSize() != null ? params.getBatchSize() : DEFAULT_BATCH_SIZE;
+        maxRetries = params.getMaxRetries() != null ? params.getMaxRetries() : DEFAULT_MAX_RETRIES;
+        retryDelay = params.getRetryDelay() != null ? params.getRetryDelay() : DEFAULT_RETRY_DELAY;
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> MultiDocumentEntity<DocumentCreateEntity<T>> execute(final Stream<T> values) throws ArangoDBException {
+        final ArangoSerializer.Options serializerOptions = new ArangoSerializer.Options()
+                .serializeNullValues(false).stringAsJson(true);
+        final List<DocumentCreateEntity<T>> documents = new ArrayList<>();
+        final List<ErrorEntity> errors = new ArrayList<>();
+        final List<Object> documentsAndErrors = new ArrayList<>();
+        final List<T> batch = new ArrayList<>(batchSize);
+        final List<VPackSlice> serialized = new ArrayList<>(batchSize);
+        for (final Iterator<T> iterator = values.iterator(); iterator.hasNext(); ) {
+            final T value = iterator.next();
+            batch.add(value);
+            serialized.add(collection.util(Serializer.CUSTOM).serialize(value, serializerOptions));
+            if (batch.size() == batchSize || !iterator.hasNext()) {
+                for (final Object element : upsert(batch, serialized)) {
+                    if (element instanceof ErrorEntity) {
+                        errors.add((ErrorEntity) element);
+                    } else {
+                        documents.add((DocumentCreateEntity<T>) element);
+                    }
+                    documentsAndErrors.add(element);
+                }
+                batch.clear();
+                serialized.clear();
+            }
+        }
+        final MultiDocumentEntity<DocumentCreateEntity<T>> result = new MultiDocumentEntity<>();
+        result.setDocuments(documents);
+        result.setErrors(errors);
+        result.setDocumentsAndErrors(documentsAndErrors);
+        return result;
+    }
+
+    /**
+     * @return the result of each document of the batch, in the order of the batch
+     */
+    private <T> Object[] upsert(final List<T> batch, final List<VPackSlice> serialized) {
+        final Object[] results = new Object[batch.size()];
+        List<Integer> pending = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            pending.add(i);
+        }
+        for (int attempt = 0; !pending.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                sleep(attempt);
+            }
+            final List<T> values = new ArrayList<>(pending.size());
+            final List<VPackSlice> slices = new ArrayList<>(pending.size());
+            for (final Integer index : pending) {
+                values.add(batch.get(index));
+                slices.add(serialized.get(index));
+            }
+            final MultiDocumentEntity<DocumentCreateEntity<T>> result = collection
+                    .insertDocuments(values, slices, createOptions);
+            final List<Integer> failed = new ArrayList<>();
+            final Iterator<Integer> indexes = pending.iterator();
+            for (final Object element : result.getDocumentsAndErrors()) {
+                final Integer index = indexes.next();
+                if (attempt < maxRetries && element instanceof ErrorEntity && isRetryable((ErrorEntity) element)) {
+                    failed.add(index);
+                } else {
+                    results[index] = element;
+                }
+            }
+            pending = failed;
+        }
+        return results;
+    }
+
+    private static boolean isRetryable(final ErrorEntity error) {
+        return ArangoErrors.ERROR_ARANGO_CONFLICT.equals(error.getErrorNum())
+                || ArangoErrors.ERROR_LOCK_TIMEOUT.equals(error.getErrorNum());
+    }
+
+    private void sleep(final int attempt) {
+        final long delay = retryDelay << Math.min(attempt - 1, 16);
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+    }
+
+}
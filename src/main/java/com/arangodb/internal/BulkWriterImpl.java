@@ -0,0 +1,202 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.BulkWriter;
+import com.arangodb.MultiDocumentConsumer;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.BulkWriterOptions;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Documents are serialized when added, so that batches can be limited by size. Requests are executed by a pool of
+ * {@code maxInFlight} threads, results are passed to the consumer in the order of the batches.
+ *
+ * @author Michele Rastelli
+ */
+class BulkWriterImpl<T> implements BulkWriter<T> {
+
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_BATCH_BYTES = 4 * 1024 * 1024;
+    private static final int DEFAULT_MAX_IN_FLIGHT = 4;
+
+    private final ArangoCollectionImpl collection;
+    private final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer;
+    private final DocumentCreateOptions params;
+    private final ArangoSerializer.Options serializerOptions;
+    private final int batchSize;
+    private final long batchBytes;
+    private final Semaphore inFlight;
+    private final ExecutorService executor;
+    private final AtomicReference<ArangoDBException> failure = new AtomicReference<>();
+    private CompletableFuture<Void> delivered = CompletableFuture.completedFuture(null);
+    private List<T> documents = new ArrayList<>();
+    private List<VPackSlice> serialized = new ArrayList<>();
+    private long bytes;
+    private boolean closed;
+
+    BulkWriterImpl(
+            final ArangoCollectionImpl collection,
+            final BulkWriterOptions options,
+            final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer) {
+        super();
+        this.collection = collection;
+        this.consumer = consumer;
+        params = options.getDocumentCreateOptions() != null
+                ? options.getDocumentCreateOptions() : new DocumentCreateOptions();
+        serializerOptions = new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true);
+        batchSize = options.getBatchSize() != null ? options.getBatchSize() : DEFAULT_BATCH_SIZE;
+        batchBytes = options.getBatchBytes() != null ? options.getBatchBytes() : DEFAULT_BATCH_BYTES;
+        final int maxInFlight = options.getMaxInFlight() != null ? options.getMaxInFlight() : DEFAULT_MAX_IN_FLIGHT;
+        inFlight = new Semaphore(maxInFlight);
+        executor = Executors.newFixedThreadPool(maxInFlight, r -> {
+            final Thread thread = new Thread(r, "arangodb-bulk-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void add(final T document) throws ArangoDBException {
+        checkState();
+        final VPackSlice slice = collection.util(Serializer.CUSTOM).serialize(document, serializerOptions);
+        if (!documents.isEmpty() && bytes + slice.getByteSize() > batchBytes) {
+            send();
+        }
+        documents.add(document);
+        serialized.add(slice);
+        bytes += slice.getByteSize();
+        if (documents.size() >= batchSize) {
+            send();
+        }
+    }
+
+    @Override
+    public void addAll(final Iterable<? extends T> documents) throws ArangoDBException {
+        for (final T document : documents) {
+            add(document);
+        }
+    }
+
+    @Override
+    public void addAll(final Stream<? extends T> documents) throws ArangoDBException {
+        documents.forEachOrdered(this::add);
+    }
+
+    @Override
+    public void flush() throws ArangoDBException {
+        checkState();
+        send();
+        try {
+            delivered.join();
+        } catch (final CompletionException e) {
+            fail(e.getCause());
+        }
+        checkState();
+    }
+
+    @Override
+    public void close() throws ArangoDBException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } finally {
+            closed = true;
+            executor.shutdown();
+        }
+    }
+
+    private void send() {
+        if (documents.isEmpty()) {
+            return;
+        }
+        final List<T> values = documents;
+        final List<VPackSlice> body = serialized;
+        documents = new ArrayList<>();
+        serialized = new ArrayList<>();
+        bytes = 0;
+        try {
+            inFlight.acquire();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+        final CompletableFuture<MultiDocumentEntity<DocumentCreateEntity<T>>> request = CompletableFuture
+                .supplyAsync(() -> collection.insertDocuments(values, body, params), executor);
+        request.whenComplete((result, e) -> {
+            if (e != null) {
+                fail(e instanceof CompletionException ? e.getCause() : e);
+            }
+            inFlight.release();
+        });
+        delivered = delivered.thenCombine(request, (v, result) -> {
+            deliver(result);
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(final MultiDocumentEntity<DocumentCreateEntity<T>> result) {
+        if (consumer == null) {
+            return;
+        }
+        for (final Object element : result.getDocumentsAndErrors()) {
+            if (element instanceof ErrorEntity) {
+                consumer.error((ErrorEntity) element);
+            } else {
+                consumer.document((DocumentCreateEntity<T>) element);
+            }
+        }
+    }
+
+    private void fail(final Throwable e) {
+        failure.compareAndSet(null, e instanceof ArangoDBException ? (ArangoDBException) e : new ArangoDBException(e));
+    }
+
+    private void checkState() {
+        if (closed) {
+            throw new ArangoDBException("BulkWriter closed");
+        }
+        final ArangoDBException e = failure.get();
+        if (e != null) {
+            throw e;
+        }
+    }
+
+}
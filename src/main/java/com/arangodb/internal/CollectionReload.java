@@ -0,0 +1,188 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.BulkWriter;
+import com.arangodb.MultiDocumentConsumer;
+import com.arangodb.entity.CollectionEntity;
+import com.arangodb.entity.CollectionPropertiesEntity;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.IndexEntity;
+import com.arangodb.entity.IndexType;
+import com.arangodb.entity.KeyOptions;
+import com.arangodb.model.CollectionCreateOptions;
+import com.arangodb.model.CollectionReloadOptions;
+import com.arangodb.model.FulltextIndexOptions;
+import com.arangodb.model.GeoIndexOptions;
+import com.arangodb.model.HashIndexOptions;
+import com.arangodb.model.PersistentIndexOptions;
+import com.arangodb.model.SkiplistIndexOptions;
+import com.arangodb.model.TtlIndexOptions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Replaces the content of a collection by loading the documents into a shadow collection created with the same
+ * properties, building its indexes once the documents are loaded and finally swapping the names of the two
+ * collections. The live collection stays unchanged until the swap, the previous content is dropped afterwards.
+ *
+ * @author Michele Rastelli
+ */
+class CollectionReload {
+
+    private static final int DEFAULT_INDEX_PARALLELISM = 4;
+
+    private final ArangoCollectionImpl collection;
+    private final CollectionReloadOptions options;
+
+    CollectionReload(final ArangoCollectionImpl collection, final CollectionReloadOptions options) {
+        super();
+        this.collection = collection;
+        this.options = options != null ? options : new CollectionReloadOptions();
+    }
+
+    <T> CollectionEntity execute(final Iterable<T> values) throws ArangoDBException {
+        final int indexParallelism = options.getIndexParallelism() != null ?
+                options.getIndexParallelism() : DEFAULT_INDEX_PARALLELISM;
+        final ArangoDatabase db = collection.db();
+        final String name = collection.name();
+        final String shadowName = options.getShadowName() != null ? options.getShadowName() : name + "_reload";
+        final Collection<IndexEntity> indexes = collection.getIndexes();
+
+        db.createCollection(shadowName, createOptions(collection.getProperties()));
+        final ArangoCollection shadow = db.collection(shadowName);
+        try {
+            load(shadow, values);
+            final List<IndexEntity> secondary = new ArrayList<>();
+            for (final IndexEntity index : indexes) {
+                // primary and edge indexes are created with the collection
+                if (index.getType() != IndexType.primary && index.getType() != IndexType.edge) {
+                    secondary.add(index);
+                }
+            }
+            BatchedExecution.execute(secondary, 1, indexParallelism, batch -> ensureIndex(shadow, batch.get(0)),
+                    index -> {
+                    });
+            db.collection(name).rename(name + "_previous");
+        } catch (final RuntimeException e) {
+            shadow.drop();
+            throw e;
+        }
+
+        try {
+            shadow.rename(name);
+        } catch (final RuntimeException e) {
+            db.collection(name + "_previous").rename(name);
+            shadow.drop();
+            throw e;
+        }
+        db.collection(name + "_previous").drop();
+        return collection.getInfo();
+    }
+
+    private <T> void load(final ArangoCollection shadow, final Iterable<T> values) {
+        final AtomicReference<ErrorEntity> error = new AtomicReference<>();
+        final BulkWriter<T> writer = shadow.bulkWriter(options.getBulkWriterOptions(),
+                new MultiDocumentConsumer<DocumentCreateEntity<T>>() {
+                    @Override
+                    public void document(final DocumentCreateEntity<T> document) {
+                    }
+
+                    @Override
+                    public void error(final ErrorEntity e) {
+                        error.compareAndSet(null, e);
+                    }
+                });
+        try {
+            writer.addAll(values);
+        } finally {
+            writer.close();
+        }
+        if (error.get() != null) {
+            throw new ArangoDBException(error.get());
+        }
+    }
+
+    private static CollectionCreateOptions createOptions(final CollectionPropertiesEntity properties) {
+        final CollectionCreateOptions options = new CollectionCreateOptions()
+                .type(properties.getType())
+                .waitForSync(properties.getWaitForSync())
+                .isVolatile(properties.getIsVolatile())
+                .doCompact(properties.getDoCompact())
+                .journalSize(properties.getJournalSize())
+                .indexBuckets(properties.getIndexBuckets())
+                .numberOfShards(properties.getNumberOfShards())
+                .shardingStrategy(properties.getShardingStrategy())
+                .smartJoinAttribute(properties.getSmartJoinAttribute())
+                .minReplicationFactor(properties.getMinReplicationFactor())
+                .setSchema(properties.getSchema());
+        if (Boolean.TRUE.equals(properties.getSatellite())) {
+            options.satellite(true);
+        } else {
+            options.replicationFactor(properties.getReplicationFactor());
+        }
+        final KeyOptions keyOptions = properties.getKeyOptions();
+        if (keyOptions != null) {
+            options.keyOptions(keyOptions.getAllowUserKeys(), keyOptions.getType(), keyOptions.getIncrement(),
+                    keyOptions.getOffset());
+        }
+        if (properties.getShardKeys() != null) {
+            options.shardKeys(properties.getShardKeys().toArray(new String[0]));
+        }
+        return options;
+    }
+
+    private static IndexEntity ensureIndex(final ArangoCollection shadow, final IndexEntity index) {
+        final Collection<String> fields = index.getFields();
+        switch (index.getType()) {
+            case hash:
+                return shadow.ensureHashIndex(fields, new HashIndexOptions().unique(index.getUnique())
+                        .sparse(index.getSparse()).deduplicate(index.getDeduplicate()).name(index.getName()));
+            case skiplist:
+                return shadow.ensureSkiplistIndex(fields, new SkiplistIndexOptions().unique(index.getUnique())
+                        .sparse(index.getSparse()).deduplicate(index.getDeduplicate()).name(index.getName()));
+            case persistent:
+                return shadow.ensurePersistentIndex(fields, new PersistentIndexOptions().unique(index.getUnique())
+                        .sparse(index.getSparse()).name(index.getName()));
+            case geo:
+            case geo1:
+            case geo2:
+                return shadow.ensureGeoIndex(fields, new GeoIndexOptions().geoJson(index.getGeoJson())
+                        .name(index.getName()));
+            case fulltext:
+                return shadow.ensureFulltextIndex(fields, new FulltextIndexOptions().minLength(index.getMinLength())
+                        .name(index.getName()));
+            case ttl:
+                return shadow.ensureTtlIndex(fields, new TtlIndexOptions().expireAfter(index.getExpireAfter())
+                        .name(index.getName()));
+            default:
+                throw new ArangoDBException("Unsupported index type: " + index.getType());
+        }
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ServerRole;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.DeleteWhereOptions;
+import com.arangodb.model.DeleteWhereOptions.ProgressListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes the documents matching a filter with a sequence of queries, each removing a bounded number of documents, so
+ * that no single transaction grows with the number of matching documents. In a cluster, the shards are processed
+ * concurrently, each with its own sequence of queries restricted to the shard. A query failing with a write-write
+ * conflict or a lock timeout is retried with backoff, so that the count only includes the documents actually removed.
+ *
+ * @author Michele Rastelli
+ */
+class DeleteWhere {
+
+    private static final int DEFAULT_BATCH_SIZE = 10000;
+    private static final int MAX_RETRIES = 5;
+    private static final long RETRY_DELAY = 50;
+
+    private final ArangoCollectionImpl collection;
+    private final String filter;
+    private final Map<String, Object> bindVars;
+    private final DeleteWhereOptions options;
+    private final int batchSize;
+
+    DeleteWhere(
+            final ArangoCollectionImpl collection,
+            final String filter,
+            final Map<String, Object> bindVars,
+            final DeleteWhereOptions options) {
+        super();
+        this.collection = collection;
+        this.filter = filter;
+        this.bindVars = bindVars;
+        this.options = options != null ? options : new DeleteWhereOptions();
+        batchSize = this.options.getBatchSize() != null ? this.options.getBatchSize() : DEFAULT_BATCH_SIZE;
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+    }
+
+    long execute() throws ArangoDBException {
+        if (collection.db().arango().getRole() != ServerRole.COORDINATOR) {
+            return delete(null);
+        }
+        final int parallelism = options.getParallelism() != null ?
+                options.getParallelism() :
+                Runtime.getRuntime().availableProcessors();
+        final List<String> shards = new ArrayList<>(collection.getShards());
+        final long[] deleted = new long[1];
+        BatchedExecution.execute(shards, 1, parallelism, shard -> delete(shard.get(0)),
+                count -> deleted[0] += count);
+        return deleted[0];
+    }
+
+    private long delete(final String shard) {
+        final Map<String, Object> queryBindVars = bindVars != null ? new HashMap<>(bindVars) : new HashMap<>();
+        queryBindVars.put("@deleteWhereCollection", collection.name());
+        queryBindVars.put("deleteWhereLimit", batchSize);
+        final AqlQueryOptions queryOptions = new AqlQueryOptions()
+                .intermediateCommitCount(options.getIntermediateCommitCount());
+        if (shard != null) {
+            queryOptions.shardIds(shard);
+        }
+        final String query = "FOR d IN @@deleteWhereCollection FILTER (" + filter + ") LIMIT @deleteWhereLimit "
+                + "REMOVE d IN @@deleteWhereCollection COLLECT WITH COUNT INTO removed RETURN removed";
+        final ProgressListener listener = options.getProgressListener();
+        final long start = System.nanoTime();
+        long deleted = 0;
+        long removed;
+        do {
+            removed = remove(query, queryBindVars, queryOptions);
+            deleted += removed;
+            if (listener != null) {
+                final long elapsed = Math.max(System.nanoTime() - start, 1);
+                listener.progress(shard, deleted, deleted * (double) TimeUnit.SECONDS.toNanos(1) / elapsed);
+            }
+        } while (removed == batchSize);
+        return deleted;
+    }
+
+    private long remove(final String query, final Map<String, Object> queryBindVars,
+                        final AqlQueryOptions queryOptions) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return collection.db().query(query, queryBindVars, queryOptions, Long.class).first();
+            } catch (final ArangoDBException e) {
+                if (attempt > MAX_RETRIES || !isRetryable(e)) {
+                    throw e;
+                }
+                sleep(attempt);
+            }
+        }
+    }
+
+    private static boolean isRetryable(final ArangoDBException e) {
+        return ArangoErrors.ERROR_ARANGO_CONFLICT.equals(e.getErrorNum())
+                || ArangoErrors.ERROR_LOCK_TIMEOUT.equals(e.getErrorNum());
+    }
+
+    private static void sleep(final int attempt) {
+        final long delay = RETRY_DELAY << Math.min(attempt - 1, 16);
+        try {
+            Thread.sleep(delay / 2 + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+    }
+
+}
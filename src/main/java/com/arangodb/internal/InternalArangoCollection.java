@@ -21,6 +21,7 @@
 package com.arangodb.internal;
 
 import com.arangodb.ArangoDBException;
+import com.arangodb.MultiDocumentConsumer;
 import com.arangodb.entity.*;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
@@ -30,6 +31,7 @@ import com.arangodb.model.*;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.Type;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
@@ -91,7 +93,11 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(MERGE_OBJECTS, params.getMergeObjects());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
 
-        request.setBody(util(Serializer.CUSTOM).serialize(value));
+        if (value instanceof String) {
+            request.setJsonBody((String) value);
+        } else {
+            request.setBody(util(Serializer.CUSTOM).serialize(value));
+        }
 
         return request;
     }
@@ -131,57 +137,50 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         request.putQueryParam(MERGE_OBJECTS, params.getMergeObjects());
         request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
 
-        request.setBody(util(Serializer.CUSTOM)
-                .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+        if (isJsonStrings(values)) {
+            request.setJsonBody(toJsonArray(values));
+        } else {
+            request.setBody(util(Serializer.CUSTOM)
+                    .serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+        }
         return request;
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> ResponseDeserializer<MultiDocumentEntity<DocumentCreateEntity<T>>> insertDocumentsResponseDeserializer(
             final Collection<T> values, final DocumentCreateOptions params) {
+        return response -> collectMultiDocument(response.getBody(), insertDocumentsElementDeserializer(values, params));
+    }
+
+    protected <T> ResponseDeserializer<Void> insertDocumentsResponseDeserializer(
+            final Collection<T> values, final DocumentCreateOptions params,
+            final MultiDocumentConsumer<? super DocumentCreateEntity<T>> consumer) {
         return response -> {
-            Class<T> type = null;
-            if (Boolean.TRUE == params.getReturnNew()) {
-                if (!values.isEmpty()) {
-                    type = (Class<T>) values.iterator().next().getClass();
-                }
+            consumeMultiDocument(response.getBody(), insertDocumentsElementDeserializer(values, params), consumer);
+            return null;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ElementDeserializer<DocumentCreateEntity<T>> insertDocumentsElementDeserializer(
+            final Collection<T> values, final DocumentCreateOptions params) {
+        final Class<T> type = Boolean.TRUE == params.getReturnNew() && !values.isEmpty()
+                ? (Class<T>) values.iterator().next().getClass() : null;
+        return next -> {
+            final DocumentCreateEntity<T> doc = util().deserialize(next, DocumentCreateEntity.class);
+            final VPackSlice newDoc = next.get(NEW);
+            if (newDoc.isObject()) {
+                doc.setNew(util(Serializer.CUSTOM).deserialize(newDoc, type));
             }
-            final MultiDocumentEntity<DocumentCreateEntity<T>> multiDocument = new MultiDocumentEntity<>();
-            final Collection<DocumentCreateEntity<T>> docs = new ArrayList<>();
-            final Collection<ErrorEntity> errors = new ArrayList<>();
-            final Collection<Object> documentsAndErrors = new ArrayList<>();
-            final VPackSlice body = response.getBody();
-            if (body.isArray()) {
-                for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext(); ) {
-                    final VPackSlice next = iterator.next();
-                    if (next.get(ArangoResponseField.ERROR).isTrue()) {
-                        final ErrorEntity error = util().deserialize(next, ErrorEntity.class);
-                        errors.add(error);
-                        documentsAndErrors.add(error);
-                    } else {
-                        final DocumentCreateEntity<T> doc = util().deserialize(next, DocumentCreateEntity.class);
-                        final VPackSlice newDoc = next.get(NEW);
-                        if (newDoc.isObject()) {
-                            doc.setNew(util(Serializer.CUSTOM).deserialize(newDoc, type));
-                        }
-                        final VPackSlice oldDoc = next.get(OLD);
-                        if (oldDoc.isObject()) {
-                            doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, type));
-                        }
-                        docs.add(doc);
-                        documentsAndErrors.add(doc);
-                    }
-                }
+            final VPackSlice oldDoc = next.get(OLD);
+            if (oldDoc.isObject()) {
+                doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, type));
             }
-            multiDocument.setDocuments(docs);
-            multiDocument.setErrors(errors);
-            multiDocument.setDocumentsAndErrors(documentsAndErrors);
-            return multiDocument;
+            return doc;
         };
     }
 
     protected Request importDocumentsRequest(final String values, final DocumentImportOptions options) {
-        return importDocumentsRequest(options).putQueryParam("type", ImportType.auto).setBody(util().serialize(values));
+        return importDocumentsRequest(options).putQueryParam("type", ImportType.auto).setJsonBody(values);
     }
 
     protected Request importDocumentsRequest(final Collection<?> values, final DocumentImportOptions options) {
@@ -198,6 +197,15 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
                 .putQueryParam("complete", params.getComplete()).putQueryParam("details", params.getDetails());
     }
 
+    private static boolean isJsonStrings(final Collection<?> values) {
+        return !values.isEmpty() && values.iterator().next() instanceof String;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String toJsonArray(final Collection<?> values) {
+        return "[" + String.join(",", (Collection<String>) values) + "]";
+    }
+
     protected Request getDocumentRequest(final String key, final DocumentReadOptions options) {
         final Request request = request(db.name(), RequestType.GET, PATH_API_DOCUMENT,
                 DocumentUtil.createDocumentHandle(name, key));
@@ -226,31 +234,21 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
 
     protected <T> ResponseDeserializer<MultiDocumentEntity<T>> getDocumentsResponseDeserializer(
             final Class<T> type, final DocumentReadOptions options) {
+        return response -> collectMultiDocument(response.getBody(), getDocumentsElementDeserializer(type));
+    }
+
+    protected <T> ResponseDeserializer<Void> getDocumentsResponseDeserializer(
+            final Class<T> type, final DocumentReadOptions options, final MultiDocumentConsumer<? super T> consumer) {
         return response -> {
-            final MultiDocumentEntity<T> multiDocument = new MultiDocumentEntity<>();
-            final Collection<T> docs = new ArrayList<>();
-            final Collection<ErrorEntity> errors = new ArrayList<>();
-            final Collection<Object> documentsAndErrors = new ArrayList<>();
-            final VPackSlice body = response.getBody();
-            for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext(); ) {
-                final VPackSlice next = iterator.next();
-                if (next.get(ArangoResponseField.ERROR).isTrue()) {
-                    final ErrorEntity error = util().deserialize(next, ErrorEntity.class);
-                    errors.add(error);
-                    documentsAndErrors.add(error);
-                } else {
-                    final T doc = util(Serializer.CUSTOM).deserialize(next, type);
-                    docs.add(doc);
-                    documentsAndErrors.add(doc);
-                }
-            }
-            multiDocument.setDocuments(docs);
-            multiDocument.setErrors(errors);
-            multiDocument.setDocumentsAndErrors(documentsAndErrors);
-            return multiDocument;
+            consumeMultiDocument(response.getBody(), getDocumentsElementDeserializer(type), consumer);
+            return null;
         };
     }
 
+    private <T> ElementDeserializer<T> getDocumentsElementDeserializer(final Class<T> type) {
+        return next -> util(Serializer.CUSTOM).deserialize(next, type);
+    }
+
     protected <T> Request replaceDocumentRequest(
             final String key, final T value, final DocumentReplaceOptions options) {
         final Request request = request(db.name(), RequestType.PUT, PATH_API_DOCUMENT,
@@ -306,45 +304,9 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
     @SuppressWarnings("unchecked")
     protected <T> ResponseDeserializer<MultiDocumentEntity<DocumentUpdateEntity<T>>> replaceDocumentsResponseDeserializer(
             final Collection<T> values, final DocumentReplaceOptions params) {
-        return response -> {
-            Class<T> type = null;
-            if (Boolean.TRUE == params.getReturnNew() || Boolean.TRUE == params.getReturnOld()) {
-                if (!values.isEmpty()) {
-                    type = (Class<T>) values.iterator().next().getClass();
-                }
-            }
-            final MultiDocumentEntity<DocumentUpdateEntity<T>> multiDocument = new MultiDocumentEntity<>();
-            final Collection<DocumentUpdateEntity<T>> docs = new ArrayList<>();
-            final Collection<ErrorEntity> errors = new ArrayList<>();
-            final Collection<Object> documentsAndErrors = new ArrayList<>();
-            final VPackSlice body = response.getBody();
-            if (body.isArray()) {
-                for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext(); ) {
-                    final VPackSlice next = iterator.next();
-                    if (next.get(ArangoResponseField.ERROR).isTrue()) {
-                        final ErrorEntity error = util().deserialize(next, ErrorEntity.class);
-                        errors.add(error);
-                        documentsAndErrors.add(error);
-                    } else {
-                        final DocumentUpdateEntity<T> doc = util().deserialize(next, DocumentUpdateEntity.class);
-                        final VPackSlice newDoc = next.get(NEW);
-                        if (newDoc.isObject()) {
-                            doc.setNew(util(Serializer.CUSTOM).deserialize(newDoc, type));
-                        }
-                        final VPackSlice oldDoc = next.get(OLD);
-                        if (oldDoc.isObject()) {
-                            doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, type));
-                        }
-                        docs.add(doc);
-                        documentsAndErrors.add(doc);
-                    }
-                }
-            }
-            multiDocument.setDocuments(docs);
-            multiDocument.setErrors(errors);
-            multiDocument.setDocumentsAndErrors(documentsAndErrors);
-            return multiDocument;
-        };
+        final Class<T> type = (Boolean.TRUE == params.getReturnNew() || Boolean.TRUE == params.getReturnOld())
+                && !values.isEmpty() ? (Class<T>) values.iterator().next().getClass() : null;
+        return response -> collectMultiDocument(response.getBody(), updateDocumentsElementDeserializer(type));
     }
 
     protected <T> Request updateDocumentRequest(final String key, final T value, final DocumentUpdateOptions options) {
@@ -405,41 +367,24 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         return request;
     }
 
-    @SuppressWarnings("unchecked")
     protected <T> ResponseDeserializer<MultiDocumentEntity<DocumentUpdateEntity<T>>> updateDocumentsResponseDeserializer(
             final Class<T> returnType) {
-        return response -> {
-            final MultiDocumentEntity<DocumentUpdateEntity<T>> multiDocument = new MultiDocumentEntity<>();
-            final Collection<DocumentUpdateEntity<T>> docs = new ArrayList<>();
-            final Collection<ErrorEntity> errors = new ArrayList<>();
-            final Collection<Object> documentsAndErrors = new ArrayList<>();
-            final VPackSlice body = response.getBody();
-            if (body.isArray()) {
-                for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext(); ) {
-                    final VPackSlice next = iterator.next();
-                    if (next.get(ArangoResponseField.ERROR).isTrue()) {
-                        final ErrorEntity error = util().deserialize(next, ErrorEntity.class);
-                        errors.add(error);
-                        documentsAndErrors.add(error);
-                    } else {
-                        final DocumentUpdateEntity<T> doc = util().deserialize(next, DocumentUpdateEntity.class);
-                        final VPackSlice newDoc = next.get(NEW);
-                        if (newDoc.isObject()) {
-                            doc.setNew(util(Serializer.CUSTOM).deserialize(newDoc, returnType));
-                        }
-                        final VPackSlice oldDoc = next.get(OLD);
-                        if (oldDoc.isObject()) {
-                            doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, returnType));
-                        }
-                        docs.add(doc);
-                        documentsAndErrors.add(doc);
-                    }
-                }
+        return response -> collectMultiDocument(response.getBody(), updateDocumentsElementDeserializer(returnType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ElementDeserializer<DocumentUpdateEntity<T>> updateDocumentsElementDeserializer(final Class<T> type) {
+        return next -> {
+            final DocumentUpdateEntity<T> doc = util().deserialize(next, DocumentUpdateEntity.class);
+            final VPackSlice newDoc = next.get(NEW);
+            if (newDoc.isObject()) {
+                doc.setNew(util(Serializer.CUSTOM).deserialize(newDoc, type));
+            }
+            final VPackSlice oldDoc = next.get(OLD);
+            if (oldDoc.isObject()) {
+                doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, type));
             }
-            multiDocument.setDocuments(docs);
-            multiDocument.setErrors(errors);
-            multiDocument.setDocumentsAndErrors(documentsAndErrors);
-            return multiDocument;
+            return doc;
         };
     }
 
@@ -479,37 +424,66 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         return request;
     }
 
+    @SuppressWarnings("unchecked")
     protected <T> ResponseDeserializer<MultiDocumentEntity<DocumentDeleteEntity<T>>> deleteDocumentsResponseDeserializer(
             final Class<T> type) {
-        return response -> {
-            final MultiDocumentEntity<DocumentDeleteEntity<T>> multiDocument = new MultiDocumentEntity<>();
-            final Collection<DocumentDeleteEntity<T>> docs = new ArrayList<>();
-            final Collection<ErrorEntity> errors = new ArrayList<>();
-            final Collection<Object> documentsAndErrors = new ArrayList<>();
-            final VPackSlice body = response.getBody();
-            if (body.isArray()) {
-                for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext(); ) {
-                    final VPackSlice next = iterator.next();
-                    if (next.get(ArangoResponseField.ERROR).isTrue()) {
-                        final ErrorEntity error = util().deserialize(next, ErrorEntity.class);
-                        errors.add(error);
-                        documentsAndErrors.add(error);
-                    } else {
-                        final DocumentDeleteEntity<T> doc = util().deserialize(next, DocumentDeleteEntity.class);
-                        final VPackSlice oldDoc = next.get(OLD);
-                        if (oldDoc.isObject()) {
-                            doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, type));
-                        }
-                        docs.add(doc);
-                        documentsAndErrors.add(doc);
-                    }
+        return response -> collectMultiDocument(response.getBody(), next -> {
+            final DocumentDeleteEntity<T> doc = util().deserialize(next, DocumentDeleteEntity.class);
+            final VPackSlice oldDoc = next.get(OLD);
+            if (oldDoc.isObject()) {
+                doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, type));
+            }
+            return doc;
+        });
+    }
+
+    /**
+     * Decodes the elements of a multi-document response one at a time and hands each of them to the consumer, without
+     * keeping any reference to the already decoded elements.
+     */
+    protected <E> void consumeMultiDocument(
+            final VPackSlice body,
+            final ElementDeserializer<E> deserializer,
+            final MultiDocumentConsumer<? super E> consumer) {
+        if (body.isArray()) {
+            for (final Iterator<VPackSlice> iterator = body.arrayIterator(); iterator.hasNext(); ) {
+                final VPackSlice next = iterator.next();
+                if (next.get(ArangoResponseField.ERROR).isTrue()) {
+                    consumer.error(util().deserialize(next, ErrorEntity.class));
+                } else {
+                    consumer.document(deserializer.deserialize(next));
                 }
             }
-            multiDocument.setDocuments(docs);
-            multiDocument.setErrors(errors);
-            multiDocument.setDocumentsAndErrors(documentsAndErrors);
-            return multiDocument;
-        };
+        }
+    }
+
+    protected <E> MultiDocumentEntity<E> collectMultiDocument(
+            final VPackSlice body, final ElementDeserializer<E> deserializer) {
+        final Collection<E> docs = new ArrayList<>();
+        final Collection<ErrorEntity> errors = new ArrayList<>();
+        final Collection<Object> documentsAndErrors = new ArrayList<>();
+        consumeMultiDocument(body, deserializer, new MultiDocumentConsumer<E>() {
+            @Override
+            public void document(final E document) {
+                docs.add(document);
+                documentsAndErrors.add(document);
+            }
+
+            @Override
+            public void error(final ErrorEntity error) {
+                errors.add(error);
+                documentsAndErrors.add(error);
+            }
+        });
+        final MultiDocumentEntity<E> multiDocument = new MultiDocumentEntity<>();
+        multiDocument.setDocuments(docs);
+        multiDocument.setErrors(errors);
+        multiDocument.setDocumentsAndErrors(documentsAndErrors);
+        return multiDocument;
+    }
+
+    protected interface ElementDeserializer<E> {
+        E deserialize(VPackSlice element) throws VPackException;
     }
 
     protected Request documentExistsRequest(final String key, final DocumentExistsOptions options) {
@@ -658,6 +632,15 @@ public abstract class InternalArangoCollection<A extends InternalArangoDB<E>, D
         return request;
     }
 
+    protected Request getShardsRequest() {
+        return request(db.name(), RequestType.GET, PATH_API_COLLECTION, name, "shards");
+    }
+
+    protected ResponseDeserializer<Collection<String>> getShardsResponseDeserializer() {
+        return response -> util().deserialize(response.getBody().get("shards"), new Type<Collection<String>>() {
+        }.getType());
+    }
+
     protected Request getRevisionRequest() {
         return request(db.name(), RequestType.GET, PATH_API_COLLECTION, name, "revision");
     }
@@ -25,6 +25,7 @@ import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ServerRole;
 import com.arangodb.entity.UserEntity;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
+import com.arangodb.internal.cursor.CursorRegistry;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.model.*;
 import com.arangodb.velocypack.Type;
@@ -49,8 +50,15 @@ public abstract class InternalArangoDB<E extends ArangoExecutor> extends ArangoE
     private static final String PATH_ENDPOINTS = "/_api/cluster/endpoints";
     private static final String PATH_API_USER = "/_api/user";
 
+    private final CursorRegistry cursorRegistry;
+
     protected InternalArangoDB(final E executor, final ArangoSerializationFactory util, final ArangoContext context) {
         super(executor, util, context);
+        cursorRegistry = new CursorRegistry();
+    }
+
+    public CursorRegistry cursorRegistry() {
+        return cursorRegistry;
     }
 
     protected Request getRoleRequest() {
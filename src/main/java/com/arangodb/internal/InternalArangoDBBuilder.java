@@ -36,6 +36,7 @@ import com.arangodb.internal.net.RandomHostHandler;
 import com.arangodb.internal.net.RoundRobinHostHandler;
 import com.arangodb.internal.net.SimpleHostResolver;
 import com.arangodb.internal.util.HostUtils;
+import com.arangodb.internal.velocypack.AttributeNameDictionary;
 import com.arangodb.internal.velocypack.VPackDriverModule;
 import com.arangodb.util.ArangoDeserializer;
 import com.arangodb.util.ArangoSerialization;
@@ -95,6 +96,7 @@ public abstract class InternalArangoDBBuilder {
     protected Long connectionTtl;
     protected Integer keepAliveInterval;
     protected final VPack.Builder vpackBuilder;
+    protected final AttributeNameDictionary attributeNameDictionary;
     protected final VPackParser.Builder vpackParserBuilder;
     protected ArangoSerializer serializer;
     protected ArangoDeserializer deserializer;
@@ -108,8 +110,9 @@ public abstract class InternalArangoDBBuilder {
         super();
         vpackBuilder = new VPack.Builder();
         vpackParserBuilder = new VPackParser.Builder();
-        vpackBuilder.registerModule(new VPackDriverModule());
-        vpackParserBuilder.registerModule(new VPackDriverModule());
+        attributeNameDictionary = new AttributeNameDictionary();
+        vpackBuilder.registerModule(new VPackDriverModule(attributeNameDictionary));
+        vpackParserBuilder.registerModule(new VPackDriverModule(attributeNameDictionary));
         host = new HostDescription(ArangoDefaults.DEFAULT_HOST, ArangoDefaults.DEFAULT_PORT);
         hosts = new ArrayList<>();
         user = ArangoDefaults.DEFAULT_USER;
@@ -214,6 +217,10 @@ public abstract class InternalArangoDBBuilder {
         this.loadBalancingStrategy = loadBalancingStrategy;
     }
 
+    protected void setAttributeNameDictionaryCapacity(final Integer capacity) {
+        attributeNameDictionary.setCapacity(capacity != null ? capacity : AttributeNameDictionary.DEFAULT_CAPACITY);
+    }
+
     protected void serializer(final ArangoSerializer serializer) {
         this.serializer = serializer;
     }
@@ -20,10 +20,12 @@
 
 package com.arangodb.internal;
 
+import com.arangodb.ArangoDBException;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.entity.arangosearch.analyzer.SearchAnalyzer;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
+import com.arangodb.internal.util.AqlUtils;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.RequestUtils;
@@ -33,15 +35,21 @@ import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
 import com.arangodb.model.arangosearch.ArangoSearchOptionsBuilder;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * @author Mark Vollmary
@@ -69,6 +77,8 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
     private static final String PATH_API_USER = "/_api/user";
 
     private static final String TRANSACTION_ID = "x-arango-trx-id";
+    private static final String QUERY_BATCH = "queryBatch";
+    private static final String QUERY_BATCH_PARAMS = "queryBatchParams";
 
     private final String name;
     private final A arango;
@@ -173,9 +183,113 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
         final AqlQueryOptions opt = options != null ? options : new AqlQueryOptions();
         final Request request = request(name, RequestType.POST, PATH_API_CURSOR)
                 .setBody(util().serialize(OptionsBuilder
-                        .build(opt, query, bindVars != null ?
-                                util(ArangoSerializationFactory.Serializer.CUSTOM).serialize(bindVars, new ArangoSerializer.Options().serializeNullValues(true)) :
-                                null)));
+                        .build(opt, query, serializeBindVars(bindVars))));
+        return queryRequestHeaders(request, opt);
+    }
+
+    /**
+     * Re-issues a query continuing after the given value of the attribute set with
+     * {@link AqlQueryOptions#resumableBy(String)}, or from the beginning if {@code resumeAfter} is {@code null}.
+     * The query is wrapped into a subquery, whose result is materialized in full by the server.
+     */
+    protected Request resumeQueryRequest(
+            final String query,
+            final Map<String, Object> bindVars,
+            final AqlQueryOptions options,
+            final VPackSlice resumeAfter) {
+        if (resumeAfter == null) {
+            return queryRequest(query, bindVars, options);
+        }
+        final Map<String, Object> resumeBindVars = bindVars != null ? new HashMap<>(bindVars) : new HashMap<>();
+        resumeBindVars.put("resumeBy", options.getResumableBy());
+        resumeBindVars.put("resumeAfter", resumeAfter);
+        return queryRequest("FOR resumed IN (" + query + ") FILTER resumed[@resumeBy] > @resumeAfter RETURN resumed",
+                resumeBindVars, options);
+    }
+
+    /**
+     * Executes {@code query} once for each of the given bind parameter sets within a single query, returning an array
+     * with the results of each set. Collection bind parameters must be the same in all sets.
+     */
+    protected Request queryBatchRequest(
+            final String query,
+            final List<Map<String, Object>> bindVarSets,
+            final AqlQueryOptions options) {
+        final Map<String, Object> collections = new HashMap<>();
+        final List<Map<String, Object>> batch = new ArrayList<>(bindVarSets.size());
+        for (final Map<String, Object> bindVars : bindVarSets) {
+            final Map<String, Object> values = new HashMap<>();
+            final Map<String, Object> setCollections = new HashMap<>();
+            if (bindVars != null) {
+                for (final Entry<String, Object> entry : bindVars.entrySet()) {
+                    (entry.getKey().startsWith("@") ? setCollections : values).put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (batch.isEmpty()) {
+                collections.putAll(setCollections);
+            } else if (!collections.equals(setCollections)) {
+                throw new ArangoDBException("Collection bind parameters must be the same in all bind parameter sets");
+            }
+            batch.add(values);
+        }
+        final Map<String, Object> bindVars = new HashMap<>(collections);
+        bindVars.put(QUERY_BATCH, batch);
+        return queryRequest("FOR " + QUERY_BATCH_PARAMS + " IN @" + QUERY_BATCH + " RETURN ("
+                        + AqlUtils.bindParametersToAttributes(query, QUERY_BATCH_PARAMS) + "\n)",
+                bindVars, options);
+    }
+
+    /**
+     * Serializes the constant part of a cursor request body (query string and options), to be reused by
+     * {@link #preparedQueryRequest(VPackSlice, Map, AqlQueryOptions)}.
+     */
+    protected VPackSlice queryTemplate(final String query, final AqlQueryOptions options) {
+        final AqlQueryOptions opt = options != null ? options : new AqlQueryOptions();
+        return util().serialize(OptionsBuilder.build(opt, query, null));
+    }
+
+    /**
+     * Copies the options read when a prepared query is executed, so that later changes to {@code options} are not
+     * reflected, like for the request body serialized by {@link #queryTemplate(String, AqlQueryOptions)}.
+     */
+    protected AqlQueryOptions preparedQueryOptions(final AqlQueryOptions options) {
+        if (options == null) {
+            return null;
+        }
+        return new AqlQueryOptions()
+                .allowDirtyRead(options.getAllowDirtyRead())
+                .streamTransactionId(options.getStreamTransactionId())
+                .prefetch(options.getPrefetch())
+                .adaptiveBatchSize(options.getAdaptiveBatchSize());
+    }
+
+    protected Request preparedQueryRequest(
+            final VPackSlice template, final Map<String, Object> bindVars, final AqlQueryOptions options) {
+        final VPackSlice body;
+        if (bindVars == null || bindVars.isEmpty()) {
+            body = template;
+        } else {
+            final VPackBuilder builder = new VPackBuilder();
+            builder.add(ValueType.OBJECT);
+            for (final Iterator<Entry<String, VPackSlice>> iterator = template.objectIterator(); iterator.hasNext(); ) {
+                final Entry<String, VPackSlice> next = iterator.next();
+                builder.add(next.getKey(), next.getValue());
+            }
+            builder.add("bindVars", serializeBindVars(bindVars));
+            builder.close();
+            body = builder.slice();
+        }
+        final Request request = request(name, RequestType.POST, PATH_API_CURSOR).setBody(body);
+        return queryRequestHeaders(request, options != null ? options : new AqlQueryOptions());
+    }
+
+    private VPackSlice serializeBindVars(final Map<String, Object> bindVars) {
+        return bindVars != null ?
+                util(ArangoSerializationFactory.Serializer.CUSTOM).serialize(bindVars, new ArangoSerializer.Options().serializeNullValues(true)) :
+                null;
+    }
+
+    private Request queryRequestHeaders(final Request request, final AqlQueryOptions opt) {
         if (opt.getAllowDirtyRead() == Boolean.TRUE) {
             RequestUtils.allowDirtyRead(request);
         }
@@ -184,9 +298,21 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
     }
 
     protected Request queryNextRequest(final String id, final AqlQueryOptions options, Map<String, String> meta) {
+        return queryNextRequest(id, options, meta, null);
+    }
+
+    protected Request queryNextRequest(
+            final String id,
+            final AqlQueryOptions options,
+            Map<String, String> meta,
+            final Integer batchSize) {
 
         final Request request = request(name, RequestType.PUT, PATH_API_CURSOR, id);
 
+        if (batchSize != null) {
+            request.setBody(util().serialize(Collections.singletonMap("batchSize", batchSize)));
+        }
+
         if (meta != null) {
             request.getHeaderParam().putAll(meta);
         }
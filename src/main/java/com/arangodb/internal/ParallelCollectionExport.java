@@ -0,0 +1,211 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoIterator;
+import com.arangodb.Consumer;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.ServerRole;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.CollectionExportOptions;
+import com.arangodb.model.CollectionExportOptions.ProgressListener;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exports a collection through one streaming cursor per partition, running on a pool of threads. Partitions are the
+ * shards in a cluster, and key ranges of similar size on a single server. Each partition is exported in key order,
+ * so that an interrupted export can be resumed after the last exported key of each partition.
+ *
+ * @author Michele Rastelli
+ */
+class ParallelCollectionExport<T> {
+
+    private static final String KEY = DocumentField.Type.KEY.getSerializeName();
+    private static final String FIRST_PARTITION = "";
+
+    private final ArangoCollectionImpl collection;
+    private final Class<T> type;
+    private final CollectionExportOptions options;
+    private final Consumer<? super T> consumer;
+
+    ParallelCollectionExport(
+            final ArangoCollectionImpl collection,
+            final Class<T> type,
+            final CollectionExportOptions options,
+            final Consumer<? super T> consumer) {
+        super();
+        this.collection = collection;
+        this.type = type;
+        this.options = options != null ? options : new CollectionExportOptions();
+        this.consumer = consumer;
+    }
+
+    void execute() throws ArangoDBException {
+        final int parallelism = options.getParallelism() != null ?
+                options.getParallelism() :
+                Runtime.getRuntime().availableProcessors();
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        final List<Partition> partitions = collection.db().arango().getRole() == ServerRole.COORDINATOR ?
+                shardPartitions() :
+                keyRangePartitions(parallelism);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()));
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final Partition partition : partitions) {
+                futures.add(executor.submit(() -> export(partition)));
+            }
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (final ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ArangoDBException(e);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Partition> shardPartitions() {
+        final List<Partition> partitions = new ArrayList<>();
+        for (final String shard : collection.getShards()) {
+            partitions.add(new Partition(shard, shard, null, null));
+        }
+        return partitions;
+    }
+
+    /**
+     * Splits the key space in {@code count} ranges with a similar number of documents. When resuming, the ranges of
+     * the previous export are reused, since their lower bounds are the partition names. The bounds are kept in the
+     * order returned by the server, which is the order used to evaluate the range filters of the partitions. Each
+     * bound is read with its own query, walking the primary index up to its offset, so that the keys of the collection
+     * are never loaded at once.
+     */
+    private List<Partition> keyRangePartitions(final int count) {
+        final Set<String> lowerBounds = new LinkedHashSet<>();
+        lowerBounds.add(FIRST_PARTITION);
+        if (options.getResumeAfter() != null) {
+            final Map<String, Object> bindVars = new HashMap<>();
+            bindVars.put("bounds", options.getResumeAfter().keySet());
+            lowerBounds.addAll(collection.db().query("FOR bound IN @bounds SORT bound RETURN bound", bindVars, null,
+                    String.class).asListRemaining());
+        } else if (count > 1) {
+            final long size = collection.count().getCount();
+            for (int i = 1; i < count; i++) {
+                final Map<String, Object> bindVars = new HashMap<>();
+                bindVars.put("@collection", collection.name());
+                bindVars.put("offset", size * i / count);
+                final String bound = collection.db().query(
+                        "FOR d IN @@collection SORT d._key LIMIT @offset, 1 RETURN d._key", bindVars, null,
+                        String.class).first();
+                if (bound != null) {
+                    lowerBounds.add(bound);
+                }
+            }
+        }
+        final List<Partition> partitions = new ArrayList<>();
+        final Iterator<String> iterator = lowerBounds.iterator();
+        String from = iterator.next();
+        while (from != null) {
+            final String to = iterator.hasNext() ? iterator.next() : null;
+            partitions.add(new Partition(from, null, from, to));
+            from = to;
+        }
+        return partitions;
+    }
+
+    private void export(final Partition partition) {
+        final StringBuilder query = new StringBuilder("FOR d IN @@collection");
+        final Map<String, Object> bindVars = new HashMap<>();
+        bindVars.put("@collection", collection.name());
+        final String after = options.getResumeAfter() != null ? options.getResumeAfter().get(partition.name) : null;
+        if (after != null) {
+            query.append(" FILTER d._key > @after");
+            bindVars.put("after", after);
+        }
+        if (partition.from != null && !partition.from.equals(FIRST_PARTITION)) {
+            query.append(" FILTER d._key >= @from");
+            bindVars.put("from", partition.from);
+        }
+        if (partition.to != null) {
+            query.append(" FILTER d._key < @to");
+            bindVars.put("to", partition.to);
+        }
+        query.append(" SORT d._key RETURN d");
+
+        final AqlQueryOptions queryOptions = new AqlQueryOptions().stream(true).batchSize(options.getBatchSize());
+        if (partition.shard != null) {
+            queryOptions.shardIds(partition.shard);
+        }
+        final ProgressListener listener = options.getProgressListener();
+        long exported = 0;
+        try (ArangoCursor<VPackSlice> cursor = collection.db()
+                .query(query.toString(), bindVars, queryOptions, VPackSlice.class)) {
+            final ArangoIterator<VPackSlice> batches = cursor.batches();
+            while (batches.hasNext()) {
+                String lastKey = null;
+                for (final Iterator<VPackSlice> iterator = batches.next().arrayIterator(); iterator.hasNext(); ) {
+                    final VPackSlice document = iterator.next();
+                    consumer.accept(collection.util(Serializer.CUSTOM).deserialize(document, type));
+                    lastKey = document.get(KEY).getAsString();
+                    exported++;
+                }
+                if (listener != null && lastKey != null) {
+                    listener.progress(partition.name, lastKey, exported);
+                }
+            }
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private static class Partition {
+        private final String name;
+        private final String shard;
+        private final String from;
+        private final String to;
+
+        private Partition(final String name, final String shard, final String from, final String to) {
+            this.name = name;
+            this.shard = shard;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.model.DocumentImportOptions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Imports documents read from a JSON array or from JSON lines, in chunks of bounded size. Chunks are imported on a
+ * pool of threads, at most {@code parallelism} at a time, so that at most {@code parallelism + 1} chunks are held in
+ * memory. The documents are only delimited on the client side, they are not parsed.
+ *
+ * @author Michele Rastelli
+ */
+class StreamingDocumentImport {
+
+    private static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private final ArangoCollectionImpl collection;
+    private final DocumentImportOptions options;
+    private final DocumentImportEntity result = new DocumentImportEntity();
+
+    StreamingDocumentImport(final ArangoCollectionImpl collection, final DocumentImportOptions options) {
+        super();
+        this.collection = collection;
+        this.options = options != null ? options : new DocumentImportOptions();
+        result.setCreated(0);
+        result.setErrors(0);
+        result.setEmpty(0);
+        result.setUpdated(0);
+        result.setIgnored(0);
+    }
+
+    DocumentImportEntity execute(final Reader input) throws ArangoDBException {
+        final int chunkSize = options.getChunkSize() != null ? options.getChunkSize() : DEFAULT_CHUNK_SIZE;
+        final int parallelism = options.getParallelism() != null ? options.getParallelism() : 1;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        final Semaphore permits = new Semaphore(parallelism);
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            final JsonDocumentReader reader = new JsonDocumentReader(input);
+            StringBuilder chunk = new StringBuilder().append('[');
+            while (reader.next(chunk)) {
+                if (chunk.length() < chunkSize) {
+                    chunk.append(',');
+                    continue;
+                }
+                permits.acquire();
+                futures.add(submit(executor, permits, chunk.append(']').toString()));
+                chunk = new StringBuilder().append('[');
+                checkFailures(futures);
+            }
+            if (chunk.length() > 1) {
+                chunk.setCharAt(chunk.length() - 1, ']');
+                permits.acquire();
+                futures.add(submit(executor, permits, chunk.toString()));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private Future<?> submit(final ExecutorService executor, final Semaphore permits, final String values) {
+        return executor.submit(() -> {
+            try {
+                add(collection.importDocuments(values, options));
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Removes the completed imports, rethrowing their failure if any.
+     */
+    private static void checkFailures(final List<Future<?>> futures)
+            throws ExecutionException, InterruptedException {
+        for (final Iterator<Future<?>> iterator = futures.iterator(); iterator.hasNext(); ) {
+            final Future<?> future = iterator.next();
+            if (future.isDone()) {
+                future.get();
+                iterator.remove();
+            }
+        }
+    }
+
+    private synchronized void add(final DocumentImportEntity chunk) {
+        result.setCreated(result.getCreated() + valueOf(chunk.getCreated()));
+        result.setErrors(result.getErrors() + valueOf(chunk.getErrors()));
+        result.setEmpty(result.getEmpty() + valueOf(chunk.getEmpty()));
+        result.setUpdated(result.getUpdated() + valueOf(chunk.getUpdated()));
+        result.setIgnored(result.getIgnored() + valueOf(chunk.getIgnored()));
+        if (chunk.getDetails() != null) {
+            result.getDetails().addAll(chunk.getDetails());
+        }
+    }
+
+    private static int valueOf(final Integer value) {
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Splits JSON text into its top level values, or into the elements of its top level array if the text starts
+     * with {@code [}.
+     */
+    static class JsonDocumentReader {
+
+        private final Reader reader;
+        private boolean started;
+        private boolean array;
+        private int pushedBack = -1;
+
+        JsonDocumentReader(final Reader reader) {
+            super();
+            this.reader = reader;
+        }
+
+        /**
+         * Appends the next value to {@code out}.
+         *
+         * @return {@code false} if there are no more values
+         */
+        boolean next(final StringBuilder out) throws IOException {
+            int c = skipWhitespace();
+            if (!started) {
+                started = true;
+                if (c == '[') {
+                    array = true;
+                    c = skipWhitespace();
+                }
+            }
+            if (array) {
+                if (c == ',') {
+                    c = skipWhitespace();
+                }
+                if (c == ']') {
+                    return false;
+                }
+            }
+            if (c == -1) {
+                return false;
+            }
+            if (c != '{' && c != '[' && c != '"') {
+                while (c != -1 && c != ',' && c != ']' && !Character.isWhitespace(c)) {
+                    out.append((char) c);
+                    c = reader.read();
+                }
+                pushedBack = c;
+                return true;
+            }
+            int depth = 0;
+            boolean string = false;
+            boolean escaped = false;
+            while (c != -1) {
+                out.append((char) c);
+                if (string) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (c == '\\') {
+                        escaped = true;
+                    } else if (c == '"') {
+                        string = false;
+                    }
+                } else if (c == '"') {
+                    string = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                }
+                if (depth == 0 && !string) {
+                    return true;
+                }
+                c = reader.read();
+            }
+            throw new IOException("Unexpected end of JSON input");
+        }
+
+        private int skipWhitespace() throws IOException {
+            int c = pushedBack;
+            pushedBack = -1;
+            if (c == -1 || Character.isWhitespace(c)) {
+                do {
+                    c = reader.read();
+                } while (c != -1 && Character.isWhitespace(c));
+            }
+            return c;
+        }
+
+    }
+
+}
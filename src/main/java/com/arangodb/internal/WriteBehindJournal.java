@@ -0,0 +1,265 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only journal of write operations, memory-mapped from a file of fixed capacity. The file starts with the
+ * offset of the first operation not yet confirmed, followed by the records: the length of the payload, the operation
+ * and the payload. The length of a record is written last, and a zero length terminates the journal, so that a record
+ * partially written before a crash is ignored. Once all the operations are confirmed, the journal starts again from
+ * the beginning of the file. The file is locked while the journal is open, so that it is used by one writer only.
+ *
+ * @author Michele Rastelli
+ */
+class WriteBehindJournal {
+
+    static final byte INSERT = 1;
+    static final byte UPDATE = 2;
+    static final byte DELETE = 3;
+
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + 1;
+
+    static final class Record {
+        final byte operation;
+        final byte[] payload;
+        final int end;
+
+        private Record(final byte operation, final byte[] payload, final int end) {
+            super();
+            this.operation = operation;
+            this.payload = payload;
+            this.end = end;
+        }
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final boolean sync;
+    private int confirmed;
+    private int written;
+    private long pending;
+    private boolean closed;
+    private ArangoDBException failure;
+
+    WriteBehindJournal(final Path path, final int capacity, final boolean sync) throws ArangoDBException {
+        super();
+        this.sync = sync;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+        try {
+            final FileLock lock;
+            try {
+                lock = channel.tryLock();
+            } catch (final OverlappingFileLockException e) {
+                throw new ArangoDBException("The journal " + path + " is used by another writer");
+            }
+            if (lock == null) {
+                throw new ArangoDBException("The journal " + path + " is used by another writer");
+            }
+            final long size = Math.max(channel.size(), capacity);
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The journal must not be larger than 2 GiB");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (final IOException | RuntimeException e) {
+            try {
+                channel.close();
+            } catch (final IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e instanceof RuntimeException ? (RuntimeException) e : new ArangoDBException(e);
+        }
+        final long start = buffer.getLong(0);
+        confirmed = start >= HEADER_SIZE && start < buffer.capacity() ? (int) start : HEADER_SIZE;
+        written = confirmed;
+        while (written + RECORD_HEADER_SIZE <= buffer.capacity()) {
+            final int length = buffer.getInt(written);
+            if (length <= 0 || written + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            written += RECORD_HEADER_SIZE + length;
+            pending++;
+        }
+        if (pending == 0) {
+            reset();
+        }
+    }
+
+    /**
+     * Appends an operation, waiting while the journal is full.
+     */
+    synchronized void append(final byte operation, final byte[] payload) throws ArangoDBException {
+        final int size = RECORD_HEADER_SIZE + payload.length;
+        if (HEADER_SIZE + size + Integer.BYTES > buffer.capacity()) {
+            throw new IllegalArgumentException("The operation is larger than the journal");
+        }
+        try {
+            while (!closed && failure == null && written + size + Integer.BYTES > buffer.capacity()) {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+        checkUsable();
+        buffer.put(written + Integer.BYTES, operation);
+        final ByteBuffer view = buffer.duplicate();
+        view.position(written + RECORD_HEADER_SIZE);
+        view.put(payload);
+        buffer.putInt(written + size, 0);
+        buffer.putInt(written, payload.length);
+        if (sync) {
+            buffer.force();
+        }
+        written += size;
+        pending++;
+        notifyAll();
+    }
+
+    /**
+     * Returns the oldest unconfirmed operations of the same type, waiting until there is at least one. Returns an
+     * empty list if the journal is closed.
+     */
+    synchronized List<Record> read(final int max) throws InterruptedException {
+        while (!closed && pending == 0) {
+            wait();
+        }
+        final List<Record> records = new ArrayList<>();
+        int position = confirmed;
+        while (!closed && position < written && records.size() < max) {
+            final int length = buffer.getInt(position);
+            final byte operation = buffer.get(position + Integer.BYTES);
+            if (!records.isEmpty() && records.get(0).operation != operation) {
+                break;
+            }
+            final byte[] payload = new byte[length];
+            final ByteBuffer view = buffer.duplicate();
+            view.position(position + RECORD_HEADER_SIZE);
+            view.get(payload);
+            position += RECORD_HEADER_SIZE + length;
+            records.add(new Record(operation, payload, position));
+        }
+        return records;
+    }
+
+    /**
+     * Marks the given operations, previously returned by {@link #read(int)}, as confirmed.
+     */
+    synchronized void confirm(final List<Record> records) {
+        if (closed || records.isEmpty()) {
+            return;
+        }
+        pending -= records.size();
+        if (pending == 0) {
+            reset();
+        } else {
+            confirmed = records.get(records.size() - 1).end;
+            buffer.putLong(0, confirmed);
+        }
+        if (sync) {
+            buffer.force();
+        }
+        notifyAll();
+    }
+
+    private void reset() {
+        confirmed = HEADER_SIZE;
+        written = HEADER_SIZE;
+        buffer.putInt(HEADER_SIZE, 0);
+        buffer.putLong(0, HEADER_SIZE);
+    }
+
+    /**
+     * Waits until all the operations are confirmed.
+     */
+    synchronized void awaitConfirmed() throws ArangoDBException {
+        try {
+            while (!closed && failure == null && pending > 0) {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+        if (pending > 0) {
+            checkUsable();
+        }
+    }
+
+    /**
+     * Makes the pending and subsequent calls to {@link #append(byte, byte[])} and {@link #awaitConfirmed()} fail,
+     * once the operations cannot be sent anymore.
+     */
+    synchronized void fail(final ArangoDBException e) {
+        failure = e;
+        notifyAll();
+    }
+
+    private void checkUsable() throws ArangoDBException {
+        if (failure != null) {
+            throw new ArangoDBException(failure);
+        }
+        if (closed) {
+            throw new ArangoDBException("The writer is closed");
+        }
+    }
+
+    synchronized long getPending() {
+        return pending;
+    }
+
+    synchronized long getSize() {
+        return written - confirmed;
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        notifyAll();
+        buffer.force();
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+}
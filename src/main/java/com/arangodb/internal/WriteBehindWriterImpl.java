@@ -0,0 +1,270 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.WriteBehindWriter;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.DocumentUpdateOptions;
+import com.arangodb.model.WriteBehindOptions;
+import com.arangodb.util.ArangoSerializer;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Journals the operations with a {@link WriteBehindJournal} and sends them from a daemon thread, one request at a
+ * time. Requests failing to reach the server, or with a response code 408, 429 or 5xx, are retried with exponential
+ * backoff until they succeed or the writer is closed, any other failure is reported and the operations are dropped.
+ * Operations are confirmed in the journal only after the response of their request. If the sender thread stops
+ * unexpectedly, the writer fails and its methods throw.
+ *
+ * @author Michele Rastelli
+ */
+class WriteBehindWriterImpl implements WriteBehindWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteBehindWriterImpl.class);
+
+    private static final int DEFAULT_JOURNAL_CAPACITY = 64 * 1024 * 1024;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final long DEFAULT_RETRY_DELAY = 100;
+    private static final long DEFAULT_MAX_RETRY_DELAY = 10000;
+    // thrown by the host handlers once all the hosts have failed
+    private static final String NO_HOST_AVAILABLE = "Cannot contact any host";
+
+    private final ArangoCollectionImpl collection;
+    private final WriteBehindJournal journal;
+    private final int batchSize;
+    private final long retryDelay;
+    private final long maxRetryDelay;
+    private final DocumentCreateOptions createOptions;
+    private final DocumentUpdateOptions updateOptions;
+    private final DocumentDeleteOptions deleteOptions;
+    private final Consumer<ArangoDBException> errorConsumer;
+    private final AtomicLong failed = new AtomicLong();
+    private final Thread sender;
+    private volatile boolean closed;
+
+    WriteBehindWriterImpl(final ArangoCollectionImpl collection, final WriteBehindOptions options) {
+        super();
+        if (options.getJournal() == null) {
+            throw new IllegalArgumentException("The journal file is required");
+        }
+        this.collection = collection;
+        journal = new WriteBehindJournal(options.getJournal(),
+                options.getJournalCapacity() != null ? options.getJournalCapacity() : DEFAULT_JOURNAL_CAPACITY,
+                Boolean.TRUE.equals(options.getSyncJournal()));
+        batchSize = options.getBatchSize() != null ? options.getBatchSize() : DEFAULT_BATCH_SIZE;
+        retryDelay = options.getRetryDelay() != null ? options.getRetryDelay() : DEFAULT_RETRY_DELAY;
+        maxRetryDelay = options.getMaxRetryDelay() != null ? options.getMaxRetryDelay() : DEFAULT_MAX_RETRY_DELAY;
+        createOptions = options.getDocumentCreateOptions() != null ?
+                options.getDocumentCreateOptions() : new DocumentCreateOptions();
+        updateOptions = options.getDocumentUpdateOptions() != null ?
+                options.getDocumentUpdateOptions() : new DocumentUpdateOptions();
+        deleteOptions = options.getDocumentDeleteOptions() != null ?
+                options.getDocumentDeleteOptions() : new DocumentDeleteOptions();
+        errorConsumer = options.getErrorConsumer();
+        sender = new Thread(this::send, "adb-write-behind-" + collection.name());
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    @Override
+    public void insert(final Object document) throws ArangoDBException {
+        journal.append(WriteBehindJournal.INSERT, bytes(serialize(document, false)));
+    }
+
+    @Override
+    public void update(final String key, final Object document) throws ArangoDBException {
+        final VPackSlice value = serialize(document,
+                updateOptions.getSerializeNull() == null || updateOptions.getSerializeNull());
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add(DocumentField.Type.KEY.getSerializeName(), key);
+        for (final Iterator<Map.Entry<String, VPackSlice>> it = value.objectIterator(); it.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> attribute = it.next();
+            if (!DocumentField.Type.KEY.getSerializeName().equals(attribute.getKey())) {
+                builder.add(attribute.getKey(), attribute.getValue());
+            }
+        }
+        builder.close();
+        journal.append(WriteBehindJournal.UPDATE, bytes(builder.slice()));
+    }
+
+    @Override
+    public void delete(final String key) throws ArangoDBException {
+        journal.append(WriteBehindJournal.DELETE, key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void flush() throws ArangoDBException {
+        journal.awaitConfirmed();
+    }
+
+    @Override
+    public long getLag() {
+        return journal.getPending();
+    }
+
+    @Override
+    public long getJournalSize() {
+        return journal.getSize();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        sender.interrupt();
+        try {
+            sender.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        journal.close();
+    }
+
+    private VPackSlice serialize(final Object document, final boolean serializeNullValues) {
+        return collection.util(Serializer.CUSTOM).serialize(document,
+                new ArangoSerializer.Options().serializeNullValues(serializeNullValues).stringAsJson(true));
+    }
+
+    private static byte[] bytes(final VPackSlice slice) {
+        return Arrays.copyOfRange(slice.getBuffer(), slice.getStart(), slice.getStart() + slice.getByteSize());
+    }
+
+    private void send() {
+        try {
+            while (!closed) {
+                final List<WriteBehindJournal.Record> records = journal.read(batchSize);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                long delay = retryDelay;
+                while (!trySend(records)) {
+                    Thread.sleep(delay);
+                    delay = Math.min(delay * 2, maxRetryDelay);
+                }
+                journal.confirm(records);
+            }
+        } catch (final InterruptedException e) {
+            // closed
+        } catch (final RuntimeException e) {
+            LOGGER.error("Write-behind sender stopped", e);
+            journal.fail(e instanceof ArangoDBException ? (ArangoDBException) e : new ArangoDBException(e));
+        }
+    }
+
+    private boolean trySend(final List<WriteBehindJournal.Record> records) throws InterruptedException {
+        try {
+            final MultiDocumentEntity<?> result = execute(records);
+            for (final ErrorEntity error : result.getErrors()) {
+                failed(new ArangoDBException(error), 1);
+            }
+            return true;
+        } catch (final ArangoDBException e) {
+            if (closed) {
+                throw new InterruptedException();
+            }
+            if (isRetryable(e)) {
+                LOGGER.debug("Write-behind request failed, retrying", e);
+                return false;
+            }
+            failed(e, records.size());
+            return true;
+        } catch (final RuntimeException e) {
+            failed(new ArangoDBException(e), records.size());
+            return true;
+        }
+    }
+
+    private MultiDocumentEntity<?> execute(final List<WriteBehindJournal.Record> records) {
+        final ArangoExecutorSync executor = collection.executor;
+        switch (records.get(0).operation) {
+            case WriteBehindJournal.INSERT:
+                final List<VPackSlice> inserted = slices(records);
+                return executor.execute(collection.insertDocumentsRequest(inserted, createOptions),
+                        collection.insertDocumentsResponseDeserializer(inserted, createOptions));
+            case WriteBehindJournal.UPDATE:
+                return executor.execute(collection.updateDocumentsRequest(slices(records), updateOptions),
+                        collection.updateDocumentsResponseDeserializer(VPackSlice.class));
+            default:
+                final List<String> keys = new ArrayList<>(records.size());
+                for (final WriteBehindJournal.Record record : records) {
+                    keys.add(new String(record.payload, StandardCharsets.UTF_8));
+                }
+                return executor.execute(collection.deleteDocumentsRequest(keys, deleteOptions),
+                        collection.deleteDocumentsResponseDeserializer(Void.class));
+        }
+    }
+
+    private static List<VPackSlice> slices(final List<WriteBehindJournal.Record> records) {
+        final List<VPackSlice> slices = new ArrayList<>(records.size());
+        for (final WriteBehindJournal.Record record : records) {
+            slices.add(new VPackSlice(record.payload));
+        }
+        return slices;
+    }
+
+    private static boolean isRetryable(final ArangoDBException e) {
+        final Integer responseCode = e.getResponseCode();
+        if (responseCode == null) {
+            return e.getCause() instanceof IOException
+                    || (e.getMessage() != null && e.getMessage().startsWith(NO_HOST_AVAILABLE));
+        }
+        return responseCode == 408 || responseCode == 429 || responseCode >= 500;
+    }
+
+    private void failed(final ArangoDBException e, final int count) {
+        failed.addAndGet(count);
+        if (errorConsumer != null) {
+            try {
+                errorConsumer.accept(e);
+            } catch (final RuntimeException consumerException) {
+                LOGGER.warn("Write-behind error consumer failed", consumerException);
+            }
+        } else {
+            LOGGER.warn("Write-behind operation rejected", e);
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.model.WriteCoalescingOptions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gathers single-document writes submitted concurrently into batches. The first write of a batch waits up to
+ * {@code maxDelay} for further compatible writes and then executes the batch in its own thread, the other writers
+ * wait for their result. No threads are created.
+ *
+ * @author Michele Rastelli
+ */
+class WriteCoalescer {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_MAX_DELAY = 1000;
+
+    private final int maxBatchSize;
+    private final long maxDelay;
+    private final Map<Object, Group> groups = new HashMap<>();
+
+    WriteCoalescer(final WriteCoalescingOptions options) {
+        super();
+        maxBatchSize = options.getMaxBatchSize() != null ? options.getMaxBatchSize() : DEFAULT_MAX_BATCH_SIZE;
+        maxDelay = TimeUnit.MICROSECONDS.toNanos(options.getMaxDelay() != null
+                ? options.getMaxDelay() : DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Executes a batch of writes. Each entry must be completed with its own result or error, entries left uncompleted
+     * are failed with the exception thrown by the batch, if any.
+     */
+    interface Batch {
+        void execute(List<Entry> entries);
+    }
+
+    static class Entry {
+        final String key;
+        final Object value;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(final String key, final Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * @param groupKey identifies the writes that can be executed in the same batch
+     * @param key      document key, for updates
+     * @param value    document
+     * @param batch    executes the batch, only invoked for the first write of each batch
+     * @return the result of the write
+     */
+    @SuppressWarnings("unchecked")
+    <R> R submit(final Object groupKey, final String key, final Object value, final Batch batch)
+            throws ArangoDBException {
+        final Entry entry = new Entry(key, value);
+        final Group group;
+        final boolean leader;
+        synchronized (groups) {
+            final Group current = groups.get(groupKey);
+            leader = current == null;
+            group = leader ? new Group() : current;
+            if (leader) {
+                groups.put(groupKey, group);
+            }
+            group.entries.add(entry);
+            if (group.entries.size() >= maxBatchSize) {
+                groups.remove(groupKey);
+                group.full = true;
+            }
+        }
+        if (leader) {
+            group.await(maxDelay);
+            synchronized (groups) {
+                groups.remove(groupKey, group);
+            }
+            execute(group.entries, batch);
+        } else if (group.full) {
+            group.signal();
+        }
+        try {
+            return (R) entry.result.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+        }
+    }
+
+    private static void execute(final List<Entry> entries, final Batch batch) {
+        try {
+            batch.execute(entries);
+        } catch (final RuntimeException e) {
+            for (final Entry entry : entries) {
+                entry.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static class Group {
+        private final List<Entry> entries = new ArrayList<>();
+        private volatile boolean full;
+
+        private synchronized void await(final long timeout) {
+            final long deadline = System.nanoTime() + timeout;
+            long remaining = timeout;
+            while (!full && remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        private synchronized void signal() {
+            notifyAll();
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+import com.arangodb.ArangoIterator;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates the numbers contained in the remaining batches of a cursor, flattening array results.
+ *
+ * @author Michele Rastelli
+ */
+abstract class AbstractPrimitiveCursor {
+
+    private final ArangoCursor<?> cursor;
+    private final ArangoIterator<VPackSlice> batches;
+    private Iterator<VPackSlice> values = Collections.emptyIterator();
+    private Iterator<VPackSlice> nested = Collections.emptyIterator();
+    private VPackSlice next;
+
+    AbstractPrimitiveCursor(final ArangoCursor<?> cursor) {
+        super();
+        this.cursor = cursor;
+        batches = cursor.batches();
+    }
+
+    public boolean hasNext() {
+        while (next == null) {
+            if (nested.hasNext()) {
+                next = nested.next();
+            } else if (values.hasNext()) {
+                final VPackSlice value = values.next();
+                if (value.isArray()) {
+                    nested = value.arrayIterator();
+                } else {
+                    next = value;
+                }
+            } else if (batches.hasNext()) {
+                values = batches.next().arrayIterator();
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    VPackSlice nextSlice() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final VPackSlice value = next;
+        next = null;
+        if (!value.isNumber()) {
+            throw new ArangoDBException("Expected a number but got: " + value.getType());
+        }
+        return value;
+    }
+
+    int sizeHint() {
+        final Integer count = cursor.getCount();
+        return count != null && count > 0 ? count : 16;
+    }
+
+    public void close() {
+        try {
+            cursor.close();
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+}
@@ -23,16 +23,21 @@ package com.arangodb.internal.cursor;
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoIterator;
 import com.arangodb.Consumer;
+import com.arangodb.DoubleCursor;
+import com.arangodb.LongCursor;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.entity.CursorEntity.Extras;
 import com.arangodb.entity.CursorEntity.Stats;
 import com.arangodb.entity.CursorEntity.Warning;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.velocypack.VPackSlice;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Mark Vollmary
@@ -41,7 +46,7 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
 
     private final Class<T> type;
     protected final ArangoCursorIterator<T> iterator;
-    private final String id;
+    private volatile String id;
     private final ArangoCursorExecute execute;
 
     public ArangoCursorImpl(final InternalArangoDatabase<?, ?> db, final ArangoCursorExecute execute,
@@ -63,6 +68,11 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
 
     @Override
     public String getId() {
+        // a resumed query continues in a new cursor
+        final String current = iterator.getResult().getId();
+        if (current != null) {
+            id = current;
+        }
         return id;
     }
 
@@ -120,6 +130,41 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return remaining;
     }
 
+    @Override
+    public List<T> asListRemaining(final long maxMemorySize) {
+        return new SpillingList<>(iterator, type, maxMemorySize);
+    }
+
+    @Override
+    public ArangoIterator<VPackSlice> batches() {
+        return new ArangoIterator<VPackSlice>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public VPackSlice next() {
+                return iterator.nextBatch();
+            }
+        };
+    }
+
+    @Override
+    public LongCursor longs() {
+        return new LongCursorImpl(this);
+    }
+
+    @Override
+    public DoubleCursor doubles() {
+        return new DoubleCursorImpl(this);
+    }
+
+    @Override
+    public Stream<T> streamRemaining() {
+        return StreamSupport.stream(new ArangoCursorSpliterator<>(iterator, type, getCount()), false);
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
@@ -26,8 +26,11 @@ import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -39,6 +42,7 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
 
     private CursorEntity result;
     private Iterator<VPackSlice> arrayIterator;
+    private int position;
 
     private final ArangoCursor<T> cursor;
     private final InternalArangoDatabase<?, ?> db;
@@ -66,16 +70,53 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
     @Override
     public T next() {
         if (!arrayIterator.hasNext() && result.getHasMore()) {
-            result = execute.next(cursor.getId(), result.getMeta());
-            arrayIterator = result.getResult().arrayIterator();
+            fetchNextBatch();
         }
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
+        position++;
         return deserialize(arrayIterator.next(), cursor.getType());
     }
 
+    /**
+     * @return the elements of the current batch not yet returned by {@link #next()}, or the next batch if the current
+     * one has been fully consumed
+     */
+    public VPackSlice nextBatch() {
+        if (!arrayIterator.hasNext() && result.getHasMore()) {
+            fetchNextBatch();
+        }
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final VPackSlice batch;
+        if (position == 0) {
+            batch = result.getResult();
+        } else {
+            final VPackBuilder builder = new VPackBuilder();
+            builder.add(ValueType.ARRAY);
+            while (arrayIterator.hasNext()) {
+                builder.add(arrayIterator.next());
+            }
+            builder.close();
+            batch = builder.slice();
+        }
+        arrayIterator = Collections.emptyIterator();
+        return batch;
+    }
+
+    private void fetchNextBatch() {
+        result = execute.next(cursor.getId(), result.getMeta());
+        arrayIterator = result.getResult().arrayIterator();
+        position = 0;
+    }
+
+    @SuppressWarnings("unchecked")
     protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
+        if (type == VPackSlice.class) {
+            return (R) result;
+        }
         return db.util(Serializer.CUSTOM).deserialize(result, type);
     }
 
@@ -0,0 +1,131 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the remaining elements of a cursor. {@link #trySplit()} hands off the current batch as a whole,
+ * fetching the next one from the server if needed, so that the elements of the split off batches can be deserialized
+ * and processed in parallel, while the batches are still fetched by a single thread.
+ *
+ * @author Michele Rastelli
+ */
+public class ArangoCursorSpliterator<T> implements Spliterator<T> {
+
+    private final ArangoCursorIterator<T> iterator;
+    private final Class<T> type;
+    private long remaining;
+
+    public ArangoCursorSpliterator(final ArangoCursorIterator<T> iterator, final Class<T> type, final Integer count) {
+        super();
+        this.iterator = iterator;
+        this.type = type;
+        remaining = count != null ? count : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        action.accept(iterator.next());
+        remaining--;
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        final VPackSlice batch = iterator.nextBatch();
+        final VPackSlice[] elements = new VPackSlice[batch.size()];
+        final Iterator<VPackSlice> batchIterator = batch.arrayIterator();
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = batchIterator.next();
+        }
+        remaining -= elements.length;
+        return new BatchSpliterator(elements, 0, elements.length);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.max(remaining, 0);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    /**
+     * Spliterator over the elements of an already fetched batch, deserializing them lazily.
+     */
+    private class BatchSpliterator implements Spliterator<T> {
+
+        private final VPackSlice[] elements;
+        private int index;
+        private final int fence;
+
+        private BatchSpliterator(final VPackSlice[] elements, final int origin, final int fence) {
+            super();
+            this.elements = elements;
+            index = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(iterator.deserialize(elements[index++], type));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            final Spliterator<T> prefix = new BatchSpliterator(elements, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.velocypack.VPackSlice;
+
+/**
+ * Chooses the batch size to request for the next batch of a cursor. The batch size is doubled while the consumer
+ * waits for the batches longer than it takes to process them, and reduced whenever the batches would exceed the
+ * configured size in bytes.
+ *
+ * @author Michele Rastelli
+ * @see AqlQueryOptions#adaptiveBatchSize(Long)
+ */
+public class BatchSizeTuner {
+
+    private final long maxBatchBytes;
+    private int batchSize;
+    private long fetchTime;
+    private long delivered;
+
+    private BatchSizeTuner(final long maxBatchBytes, final CursorEntity result) {
+        super();
+        this.maxBatchBytes = maxBatchBytes;
+        batchSize = Math.max(result.getResult().size(), 1);
+        delivered = System.nanoTime();
+        limit(result.getResult());
+    }
+
+    /**
+     * @return a new tuner, or {@code null} if the adaptive batch size is not enabled in {@code options}
+     */
+    public static BatchSizeTuner of(final AqlQueryOptions options, final CursorEntity result) {
+        final Long maxBatchBytes = options != null ? options.getAdaptiveBatchSize() : null;
+        if (maxBatchBytes == null || maxBatchBytes <= 0 || !Boolean.TRUE.equals(result.getHasMore())) {
+            return null;
+        }
+        return new BatchSizeTuner(maxBatchBytes, result);
+    }
+
+    /**
+     * Invoked before requesting the next batch.
+     *
+     * @return the batch size to request
+     */
+    public synchronized int beforeNext() {
+        final long consumeTime = System.nanoTime() - delivered;
+        if (fetchTime > consumeTime && batchSize <= Integer.MAX_VALUE / 2) {
+            batchSize *= 2;
+        }
+        fetchTime = System.nanoTime();
+        return batchSize;
+    }
+
+    /**
+     * Invoked after the requested batch has been received.
+     *
+     * @param result the received batch
+     */
+    public synchronized void afterNext(final CursorEntity result) {
+        delivered = System.nanoTime();
+        fetchTime = delivered - fetchTime;
+        limit(result.getResult());
+    }
+
+    private void limit(final VPackSlice batch) {
+        final int size = batch.size();
+        if (size == 0) {
+            return;
+        }
+        final long bytesPerDocument = Math.max(batch.getByteSize() / size, 1);
+        final long maxBatchSize = Math.max(maxBatchBytes / bytesPerDocument, 1);
+        if (batchSize > maxBatchSize) {
+            batchSize = (int) maxBatchSize;
+        }
+    }
+
+}
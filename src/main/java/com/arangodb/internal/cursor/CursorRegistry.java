@@ -0,0 +1,201 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.entity.OpenCursorsEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the cursors of an {@code ArangoDB} instance still holding results on the server. Cursors are
+ * untracked once exhausted or closed. Cursors which become unreachable before are closed on the server by a daemon
+ * thread shared by all the registries, and reported as leaked. If debug logging is enabled, the report includes where
+ * the leaked cursor has been created.
+ *
+ * @author Michele Rastelli
+ */
+public class CursorRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CursorRegistry.class);
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    static {
+        final Thread reaper = new Thread(CursorRegistry::reap, "adb-cursor-reaper");
+        reaper.setDaemon(true);
+        reaper.start();
+    }
+
+    private final Set<CursorReference> open = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param execute executes the requests of the cursor
+     * @param result  first batch of the cursor
+     * @return an {@code ArangoCursorExecute} untracking the cursor when exhausted or closed, to be passed to
+     * {@link #register(Object, ArangoCursorExecute)} once the cursor has been created
+     */
+    public ArangoCursorExecute track(final ArangoCursorExecute execute, final CursorEntity result) {
+        if (result.getId() == null || !Boolean.TRUE.equals(result.getHasMore())) {
+            return execute;
+        }
+        return new TrackingCursorExecute(execute, result);
+    }
+
+    /**
+     * @param cursor  the cursor
+     * @param execute as returned by {@link #track(ArangoCursorExecute, CursorEntity)}
+     * @return the given cursor
+     */
+    public <C> C register(final C cursor, final ArangoCursorExecute execute) {
+        if (execute instanceof TrackingCursorExecute) {
+            final TrackingCursorExecute tracking = (TrackingCursorExecute) execute;
+            final CursorReference reference = new CursorReference(cursor, this, tracking,
+                    LOGGER.isDebugEnabled() ? new Throwable("Cursor " + tracking.id + " created here") : null);
+            tracking.reference = reference;
+            open.add(reference);
+        }
+        return cursor;
+    }
+
+    public OpenCursorsEntity getOpenCursors() {
+        final long now = System.currentTimeMillis();
+        Long oldestAge = null;
+        int count = 0;
+        for (final CursorReference reference : open) {
+            final long age = now - reference.created;
+            oldestAge = oldestAge == null ? age : Math.max(oldestAge, age);
+            count++;
+        }
+        return new OpenCursorsEntity(count, oldestAge);
+    }
+
+    /**
+     * Closes the leaked cursors as they are enqueued, outside of the threads executing requests, which must not block
+     * on the close request.
+     */
+    private static void reap() {
+        while (true) {
+            final CursorReference reference;
+            try {
+                reference = (CursorReference) QUEUE.remove();
+            } catch (final InterruptedException e) {
+                return;
+            }
+            try {
+                reference.registry.closeLeaked(reference);
+            } catch (final RuntimeException e) {
+                LOGGER.debug("Could not close leaked cursor", e);
+            }
+        }
+    }
+
+    private void closeLeaked(final CursorReference reference) {
+        if (!open.remove(reference)) {
+            return;
+        }
+        final TrackingCursorExecute tracking = reference.execute;
+        if (reference.creation != null) {
+            LOGGER.warn("Cursor {} has not been closed nor exhausted, closing it.", tracking.id,
+                    reference.creation);
+        } else {
+            LOGGER.warn("Cursor {} has not been closed nor exhausted, closing it. Enable debug logging for {} to "
+                    + "find out where it has been created.", tracking.id, CursorRegistry.class.getName());
+        }
+        try {
+            tracking.execute.close(tracking.id, tracking.meta);
+        } catch (final ArangoDBException e) {
+            LOGGER.debug("Could not close cursor {}", tracking.id, e);
+        }
+    }
+
+    private static class CursorReference extends PhantomReference<Object> {
+        private final CursorRegistry registry;
+        private final TrackingCursorExecute execute;
+        private final Throwable creation;
+        private final long created;
+
+        private CursorReference(
+                final Object cursor,
+                final CursorRegistry registry,
+                final TrackingCursorExecute execute,
+                final Throwable creation) {
+            super(cursor, QUEUE);
+            this.registry = registry;
+            this.execute = execute;
+            this.creation = creation;
+            created = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Must not reference the cursor, otherwise the cursor never becomes unreachable.
+     */
+    private class TrackingCursorExecute implements ArangoCursorExecute {
+        private final ArangoCursorExecute execute;
+        private volatile String id;
+        private volatile Map<String, String> meta;
+        private volatile CursorReference reference;
+
+        private TrackingCursorExecute(final ArangoCursorExecute execute, final CursorEntity result) {
+            super();
+            this.execute = execute;
+            id = result.getId();
+            meta = result.getMeta();
+        }
+
+        @Override
+        public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+            final CursorEntity result = execute.next(id, meta);
+            if (result.getId() != null) {
+                this.id = result.getId();
+            }
+            this.meta = result.getMeta();
+            if (!Boolean.TRUE.equals(result.getHasMore())) {
+                untrack();
+            }
+            return result;
+        }
+
+        @Override
+        public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+            untrack();
+            execute.close(id, meta);
+        }
+
+        private void untrack() {
+            final CursorReference ref = reference;
+            if (ref != null) {
+                open.remove(ref);
+                ref.clear();
+            }
+        }
+    }
+
+}
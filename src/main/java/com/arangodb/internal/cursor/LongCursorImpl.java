@@ -0,0 +1,65 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.LongCursor;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * @author Michele Rastelli
+ */
+public class LongCursorImpl extends AbstractPrimitiveCursor implements LongCursor {
+
+    public LongCursorImpl(final ArangoCursor<?> cursor) {
+        super(cursor);
+    }
+
+    @Override
+    public long nextLong() {
+        final VPackSlice value = nextSlice();
+        return value.isDouble() ? (long) value.getAsDouble() : value.getAsLong();
+    }
+
+    @Override
+    public void forEachLong(final LongConsumer action) {
+        while (hasNext()) {
+            action.accept(nextLong());
+        }
+    }
+
+    @Override
+    public long[] toLongArray() {
+        long[] values = new long[sizeHint()];
+        int size = 0;
+        while (hasNext()) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nextLong();
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+}
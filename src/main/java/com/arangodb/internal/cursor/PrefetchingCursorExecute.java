@@ -0,0 +1,142 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.model.AqlQueryOptions;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ArangoCursorExecute} fetching up to {@code depth} batches ahead of the consumer in background. The batches
+ * are still requested sequentially, each one as soon as the previous one has been received.
+ *
+ * @author Michele Rastelli
+ * @see AqlQueryOptions#prefetch(Integer)
+ */
+public class PrefetchingCursorExecute implements ArangoCursorExecute {
+
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L,
+            TimeUnit.SECONDS, new SynchronousQueue<>(), new PrefetchThreadFactory());
+
+    private final ArangoCursorExecute execute;
+    private final String id;
+    private final Deque<CompletableFuture<CursorEntity>> pending;
+    private CompletableFuture<CursorEntity> last;
+    private volatile CursorEntity fetched;
+    private volatile boolean closed;
+
+    public PrefetchingCursorExecute(final ArangoCursorExecute execute, final CursorEntity result, final int depth) {
+        super();
+        this.execute = execute;
+        id = result.getId();
+        pending = new ArrayDeque<>(depth);
+        fetched = result;
+        last = CompletableFuture.completedFuture(result);
+        for (int i = 0; i < depth; i++) {
+            prefetch();
+        }
+    }
+
+    /**
+     * @return {@code execute} itself, or a prefetching wrapper if enabled in {@code options}
+     */
+    public static ArangoCursorExecute of(
+            final ArangoCursorExecute execute,
+            final CursorEntity result,
+            final AqlQueryOptions options) {
+        final Integer depth = options != null ? options.getPrefetch() : null;
+        if (depth == null || depth <= 0 || !Boolean.TRUE.equals(result.getHasMore())) {
+            return execute;
+        }
+        return new PrefetchingCursorExecute(execute, result, depth);
+    }
+
+    private void prefetch() {
+        last = last.thenApplyAsync(previous -> {
+            if (closed || previous == null || !previous.getHasMore()) {
+                return null;
+            }
+            final CursorEntity next = execute.next(id, previous.getMeta());
+            fetched = next;
+            return next;
+        }, EXECUTOR);
+        pending.add(last);
+    }
+
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+        final CursorEntity result = join(pending.poll());
+        prefetch();
+        return result;
+    }
+
+    @Override
+    public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+        closed = true;
+        try {
+            // wait for the running fetch, the following ones are skipped
+            last.join();
+        } catch (final CompletionException e) {
+            // the last successfully fetched batch tells whether the cursor still exists on the server
+        }
+        final CursorEntity latest = fetched;
+        if (latest.getHasMore()) {
+            execute.close(id, latest.getMeta());
+        }
+    }
+
+    private static CursorEntity join(final CompletableFuture<CursorEntity> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof ArangoDBException) {
+                throw (ArangoDBException) cause;
+            }
+            throw new ArangoDBException(cause);
+        }
+    }
+
+    private static class PrefetchThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "adb-cursor-prefetch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.net.HostHandle;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link ArangoCursorExecute} re-issuing the query when the coordinator holding the cursor is not reachable anymore.
+ * The query is re-issued against any available coordinator, continuing after the sort key of the last received
+ * result, so that the iteration continues without duplicates.
+ *
+ * @author Michele Rastelli
+ * @see AqlQueryOptions#resumableBy(String)
+ */
+public class ResumableCursorExecute implements ArangoCursorExecute {
+
+    private static final int ERROR_CURSOR_NOT_FOUND = 1600;
+
+    private final ArangoCursorExecute execute;
+    private final String attribute;
+    private final HostHandle hostHandle;
+    private final Function<VPackSlice, CursorEntity> resume;
+    private volatile String id;
+    private volatile Map<String, String> meta;
+    private volatile VPackSlice lastKey;
+
+    public ResumableCursorExecute(
+            final ArangoCursorExecute execute,
+            final CursorEntity result,
+            final String attribute,
+            final HostHandle hostHandle,
+            final Function<VPackSlice, CursorEntity> resume) {
+        super();
+        this.execute = execute;
+        this.attribute = attribute;
+        this.hostHandle = hostHandle;
+        this.resume = resume;
+        received(result);
+    }
+
+    /**
+     * @param resume re-issues the query continuing after the given sort key, or from the beginning if the key is
+     *               {@code null}, using {@code hostHandle}
+     * @return {@code execute} itself, or a resumable wrapper if enabled in {@code options}
+     */
+    public static ArangoCursorExecute of(
+            final ArangoCursorExecute execute,
+            final CursorEntity result,
+            final AqlQueryOptions options,
+            final HostHandle hostHandle,
+            final Function<VPackSlice, CursorEntity> resume) {
+        final String attribute = options != null ? options.getResumableBy() : null;
+        if (attribute == null || resume == null || !Boolean.TRUE.equals(result.getHasMore())) {
+            return execute;
+        }
+        return new ResumableCursorExecute(execute, result, attribute, hostHandle, resume);
+    }
+
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+        CursorEntity result;
+        try {
+            result = execute.next(this.id, this.meta);
+        } catch (final ArangoDBException e) {
+            if (!isFailover(e)) {
+                throw e;
+            }
+            hostHandle.setHost(null);
+            try {
+                result = resume.apply(lastKey);
+            } catch (final ArangoDBException resumeException) {
+                resumeException.addSuppressed(e);
+                throw resumeException;
+            }
+        }
+        received(result);
+        return result;
+    }
+
+    @Override
+    public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+        execute.close(this.id, this.meta);
+    }
+
+    private void received(final CursorEntity result) {
+        id = result.getId();
+        meta = result.getMeta();
+        final VPackSlice batch = result.getResult();
+        if (batch != null && batch.size() > 0) {
+            final VPackSlice key = batch.get(batch.size() - 1).get(attribute);
+            if (key.isNone()) {
+                throw new ArangoDBException("Resumable cursor result without attribute: " + attribute);
+            }
+            lastKey = key;
+        }
+    }
+
+    private static boolean isFailover(final ArangoDBException e) {
+        final Integer responseCode = e.getResponseCode();
+        final Integer errorNum = e.getErrorNum();
+        return e.getCause() instanceof IOException
+                || (responseCode != null && responseCode == 503)
+                || (errorNum != null && errorNum == ERROR_CURSOR_NOT_FOUND);
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Unmodifiable {@code List} of the remaining results of a cursor, keeping the received batches serialized and
+ * deserializing the elements on access. Batches are kept in memory up to {@code maxMemorySize} bytes, the further
+ * ones are written to a temporary file which is memory mapped once the cursor is exhausted. The file is deleted as
+ * soon as it is mapped and its space is released when the list is garbage collected.
+ *
+ * @author Michele Rastelli
+ */
+public class SpillingList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final long MAX_SEGMENT_SIZE = Integer.MAX_VALUE;
+
+    private final ArangoCursorIterator<T> iterator;
+    private final Class<T> type;
+    private final List<Batch> batches = new ArrayList<>();
+    private final int size;
+    private volatile Batch cached;
+
+    public SpillingList(final ArangoCursorIterator<T> iterator, final Class<T> type, final long maxMemorySize) {
+        super();
+        this.iterator = iterator;
+        this.type = type;
+        try {
+            size = read(maxMemorySize);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private int read(final long maxMemorySize) throws IOException {
+        int count = 0;
+        long memory = 0;
+        FileChannel channel = null;
+        try {
+            while (iterator.hasNext()) {
+                final VPackSlice slice = iterator.nextBatch();
+                final Batch batch = new Batch(count, slice.size());
+                final int length = slice.getByteSize();
+                if (channel == null && memory + length <= maxMemorySize) {
+                    batch.slice = slice;
+                    memory += length;
+                } else {
+                    if (channel == null) {
+                        channel = FileChannel.open(Files.createTempFile("arangodb-cursor-", ".vpack"),
+                                StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                StandardOpenOption.DELETE_ON_CLOSE);
+                    }
+                    batch.position = channel.position();
+                    batch.length = length;
+                    final ByteBuffer buffer = ByteBuffer.wrap(slice.getBuffer(), slice.getStart(), length);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+                batches.add(batch);
+                count += batch.size;
+            }
+            if (channel != null) {
+                map(channel);
+            }
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Maps the spilled batches in segments of at most {@link #MAX_SEGMENT_SIZE} bytes, each containing whole batches.
+     */
+    private void map(final FileChannel channel) throws IOException {
+        MappedByteBuffer segment = null;
+        long segmentStart = 0;
+        for (final Batch batch : batches) {
+            if (batch.slice != null) {
+                continue;
+            }
+            if (segment == null || batch.position + batch.length - segmentStart > segment.capacity()) {
+                segmentStart = batch.position;
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart,
+                        Math.min(channel.size() - segmentStart, MAX_SEGMENT_SIZE));
+            }
+            batch.segment = segment;
+            batch.position -= segmentStart;
+        }
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        final Batch batch = find(index);
+        return iterator.deserialize(slice(batch).get(index - batch.offset), type);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private Batch find(final int index) {
+        int low = 0;
+        int high = batches.size() - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (batches.get(mid).offset <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return batches.get(low);
+    }
+
+    /**
+     * Returns the serialized batch, copying it from the mapped file if it has been spilled. The last copied batch is
+     * kept, so that sequential access copies each batch once.
+     */
+    private VPackSlice slice(final Batch batch) {
+        if (batch.slice != null) {
+            return batch.slice;
+        }
+        final Batch last = cached;
+        if (last != null && last.offset == batch.offset) {
+            return last.slice;
+        }
+        final byte[] bytes = new byte[batch.length];
+        final ByteBuffer buffer = batch.segment.duplicate();
+        buffer.position((int) batch.position);
+        buffer.get(bytes);
+        final Batch copy = new Batch(batch.offset, batch.size);
+        copy.slice = new VPackSlice(bytes);
+        cached = copy;
+        return copy.slice;
+    }
+
+    private static class Batch {
+        private final int offset;
+        private final int size;
+        private VPackSlice slice;
+        private ByteBuffer segment;
+        private long position;
+        private int length;
+
+        private Batch(final int offset, final int size) {
+            super();
+            this.offset = offset;
+            this.size = size;
+        }
+    }
+
+}
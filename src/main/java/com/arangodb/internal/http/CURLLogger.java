@@ -46,7 +46,8 @@ public final class CURLLogger {
             final ArangoSerialization util) {
         final RequestType requestType = request.getRequestType();
         final boolean includeBody = (requestType == RequestType.POST || requestType == RequestType.PUT
-                || requestType == RequestType.PATCH || requestType == RequestType.DELETE) && request.getBody() != null;
+                || requestType == RequestType.PATCH || requestType == RequestType.DELETE)
+                && (request.getJsonBody() != null || request.getBody() != null);
         final StringBuilder buffer = new StringBuilder();
         if (includeBody) {
             buffer.append("\n");
@@ -69,7 +70,8 @@ public final class CURLLogger {
         buffer.append(" '").append(url).append("'");
         if (includeBody) {
             buffer.append("\n");
-            buffer.append((String) util.deserialize(request.getBody(), String.class));
+            buffer.append(request.getJsonBody() != null ? request.getJsonBody()
+                    : (String) util.deserialize(request.getBody(), String.class));
             buffer.append("\n");
             buffer.append("___EOB___");
         }
@@ -280,6 +280,11 @@ public class HttpConnection implements Connection {
     }
 
     private HttpRequestBase requestWithBody(final HttpEntityEnclosingRequestBase httpRequest, final Request request) {
+        final String jsonBody = request.getJsonBody();
+        if (jsonBody != null && contentType != Protocol.HTTP_VPACK) {
+            httpRequest.setEntity(new StringEntity(jsonBody, CONTENT_TYPE_APPLICATION_JSON_UTF8));
+            return httpRequest;
+        }
         final VPackSlice body = request.getBody();
         if (body != null) {
             if (contentType == Protocol.HTTP_VPACK) {
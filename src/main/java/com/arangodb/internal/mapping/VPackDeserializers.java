@@ -22,16 +22,21 @@ package com.arangodb.internal.mapping;
 
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.BaseEdgeDocument;
+import com.arangodb.internal.util.DateUtils;
 import com.arangodb.jackson.dataformat.velocypack.internal.VPackParser;
 import com.arangodb.velocypack.VPackSlice;
-import com.arangodb.velocypack.internal.util.DateUtil;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
 import java.io.IOException;
-import java.text.ParseException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.Map;
 
 /**
@@ -61,11 +66,7 @@ public class VPackDeserializers {
         @Override
         public java.util.Date deserialize(final JsonParser p, final DeserializationContext ctxt)
                 throws IOException, JsonProcessingException {
-            try {
-                return DateUtil.parse(p.getValueAsString());
-            } catch (final ParseException e) {
-                throw new IOException(e);
-            }
+            return new java.util.Date(readEpochMillis(p));
         }
     };
 
@@ -73,21 +74,51 @@ public class VPackDeserializers {
         @Override
         public java.sql.Date deserialize(final JsonParser p, final DeserializationContext ctxt)
                 throws IOException, JsonProcessingException {
+            return new java.sql.Date(readEpochMillis(p));
+        }
+    };
+
+    public static final JsonDeserializer<java.sql.Timestamp> SQL_TIMESTAMP = new JsonDeserializer<java.sql.Timestamp>() {
+        @Override
+        public java.sql.Timestamp deserialize(final JsonParser p, final DeserializationContext ctxt)
+                throws IOException, JsonProcessingException {
+            return new java.sql.Timestamp(readEpochMillis(p));
+        }
+    };
+
+    public static final JsonDeserializer<Instant> INSTANT = new JsonDeserializer<Instant>() {
+        @Override
+        public Instant deserialize(final JsonParser p, final DeserializationContext ctxt)
+                throws IOException, JsonProcessingException {
+            return readInstant(p);
+        }
+    };
+
+    public static final JsonDeserializer<LocalDateTime> LOCAL_DATE_TIME = new JsonDeserializer<LocalDateTime>() {
+        @Override
+        public LocalDateTime deserialize(final JsonParser p, final DeserializationContext ctxt)
+                throws IOException, JsonProcessingException {
+            if (p.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(p.getLongValue()), ZoneOffset.UTC);
+            }
             try {
-                return new java.sql.Date(DateUtil.parse(p.getValueAsString()).getTime());
-            } catch (final ParseException e) {
+                return DateUtils.parseLocalDateTime(p.getValueAsString());
+            } catch (final DateTimeParseException e) {
                 throw new IOException(e);
             }
         }
     };
 
-    public static final JsonDeserializer<java.sql.Timestamp> SQL_TIMESTAMP = new JsonDeserializer<java.sql.Timestamp>() {
+    public static final JsonDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new JsonDeserializer<OffsetDateTime>() {
         @Override
-        public java.sql.Timestamp deserialize(final JsonParser p, final DeserializationContext ctxt)
+        public OffsetDateTime deserialize(final JsonParser p, final DeserializationContext ctxt)
                 throws IOException, JsonProcessingException {
+            if (p.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                return OffsetDateTime.ofInstant(Instant.ofEpochMilli(p.getLongValue()), ZoneOffset.UTC);
+            }
             try {
-                return new java.sql.Timestamp(DateUtil.parse(p.getValueAsString()).getTime());
-            } catch (final ParseException e) {
+                return DateUtils.parseOffsetDateTime(p.getValueAsString());
+            } catch (final DateTimeParseException e) {
                 throw new IOException(e);
             }
         }
@@ -111,4 +142,28 @@ public class VPackDeserializers {
         }
     };
 
+    /**
+     * Reads epoch milliseconds, an embedded date or an ISO 8601 date string.
+     */
+    private static long readEpochMillis(final JsonParser p) throws IOException {
+        if (p.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        return readInstant(p).toEpochMilli();
+    }
+
+    private static Instant readInstant(final JsonParser p) throws IOException {
+        if (p.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return Instant.ofEpochMilli(p.getLongValue());
+        }
+        if (p.getCurrentToken() == JsonToken.VALUE_EMBEDDED_OBJECT && p.getEmbeddedObject() instanceof java.util.Date) {
+            return Instant.ofEpochMilli(((java.util.Date) p.getEmbeddedObject()).getTime());
+        }
+        try {
+            return DateUtils.parseInstant(p.getValueAsString());
+        } catch (final DateTimeParseException e) {
+            throw new IOException(e);
+        }
+    }
+
 }
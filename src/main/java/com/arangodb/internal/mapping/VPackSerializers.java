@@ -24,9 +24,9 @@ package com.arangodb.internal.mapping;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.BaseEdgeDocument;
 import com.arangodb.entity.DocumentField;
+import com.arangodb.internal.util.DateUtils;
 import com.arangodb.jackson.dataformat.velocypack.internal.VPackGenerator;
 import com.arangodb.velocypack.VPackSlice;
-import com.arangodb.velocypack.internal.util.DateUtil;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
@@ -35,6 +35,9 @@ import com.fasterxml.jackson.databind.SerializerProvider;
 import java.io.IOException;
 import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -59,7 +62,7 @@ public class VPackSerializers {
         @Override
         public void serialize(final java.util.Date value, final JsonGenerator gen, final SerializerProvider serializers)
                 throws IOException, JsonProcessingException {
-            gen.writeString(DateUtil.format(value));
+            gen.writeString(DateUtils.format(value));
         }
     };
 
@@ -67,7 +70,7 @@ public class VPackSerializers {
         @Override
         public void serialize(final Date value, final JsonGenerator gen, final SerializerProvider serializers)
                 throws IOException, JsonProcessingException {
-            gen.writeString(DateUtil.format(value));
+            gen.writeString(DateUtils.format(value));
         }
     };
 
@@ -75,7 +78,31 @@ public class VPackSerializers {
         @Override
         public void serialize(final Timestamp value, final JsonGenerator gen, final SerializerProvider serializers)
                 throws IOException, JsonProcessingException {
-            gen.writeString(DateUtil.format(value));
+            gen.writeString(DateUtils.format(value));
+        }
+    };
+
+    public static final JsonSerializer<Instant> INSTANT = new JsonSerializer<Instant>() {
+        @Override
+        public void serialize(final Instant value, final JsonGenerator gen, final SerializerProvider serializers)
+                throws IOException {
+            gen.writeString(DateUtils.format(value));
+        }
+    };
+
+    public static final JsonSerializer<LocalDateTime> LOCAL_DATE_TIME = new JsonSerializer<LocalDateTime>() {
+        @Override
+        public void serialize(final LocalDateTime value, final JsonGenerator gen, final SerializerProvider serializers)
+                throws IOException {
+            gen.writeString(DateUtils.format(value));
+        }
+    };
+
+    public static final JsonSerializer<OffsetDateTime> OFFSET_DATE_TIME = new JsonSerializer<OffsetDateTime>() {
+        @Override
+        public void serialize(final OffsetDateTime value, final JsonGenerator gen, final SerializerProvider serializers)
+                throws IOException {
+            gen.writeString(DateUtils.format(value));
         }
     };
 
@@ -0,0 +1,124 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+/**
+ * @author Michele Rastelli
+ */
+public final class AqlUtils {
+
+    private AqlUtils() {
+    }
+
+    /**
+     * Replaces the references to value bind parameters ({@code @name}) in {@code query} with accesses to the
+     * attributes of the given variable ({@code variable["name"]}), also where they are used as attribute names.
+     * Collection bind parameters ({@code @@name}), string literals, quoted names and comments are left untouched,
+     * and bind parameters used as range bounds ({@code @from..@to}) stay values.
+     */
+    public static String bindParametersToAttributes(final String query, final String variable) {
+        final StringBuilder result = new StringBuilder(query.length() + 32);
+        final int length = query.length();
+        int i = 0;
+        while (i < length) {
+            final char c = query.charAt(i);
+            if (c == '\'' || c == '"' || c == '`' || c == '\u00B4') {
+                final int end = skipQuoted(query, i, c);
+                result.append(query, i, end);
+                i = end;
+            } else if (c == '/' && i + 1 < length && query.charAt(i + 1) == '/') {
+                final int end = query.indexOf('\n', i);
+                final int stop = end < 0 ? length : end;
+                result.append(query, i, stop);
+                i = stop;
+            } else if (c == '/' && i + 1 < length && query.charAt(i + 1) == '*') {
+                final int end = query.indexOf("*/", i + 2);
+                final int stop = end < 0 ? length : end + 2;
+                result.append(query, i, stop);
+                i = stop;
+            } else if (c == '@' && i + 1 < length && query.charAt(i + 1) == '@') {
+                final int end = skipName(query, i + 2);
+                result.append(query, i, end);
+                i = end;
+            } else if (c == '@') {
+                final int end = skipName(query, i + 1);
+                final String access = variable + "[\"" + query.substring(i + 1, end) + "\"]";
+                final int previous = lastNonWhitespace(result);
+                final char before = previous >= 0 ? result.charAt(previous) : 0;
+                if (before == '.' && (previous == 0 || result.charAt(previous - 1) != '.')) {
+                    // doc.@attribute
+                    result.setLength(previous);
+                    result.append('[').append(access).append(']');
+                } else if ((before == '{' || before == ',') && nextNonWhitespace(query, end) == ':') {
+                    // {@attribute: value}
+                    result.append('[').append(access).append(']');
+                } else {
+                    result.append(access);
+                }
+                i = end;
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static int skipQuoted(final String query, final int start, final char quote) {
+        int i = start + 1;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == quote) {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+        return query.length();
+    }
+
+    private static int skipName(final String query, final int start) {
+        int i = start;
+        while (i < query.length() && (Character.isLetterOrDigit(query.charAt(i)) || query.charAt(i) == '_')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static char nextNonWhitespace(final String query, final int start) {
+        int i = start;
+        while (i < query.length() && Character.isWhitespace(query.charAt(i))) {
+            i++;
+        }
+        return i < query.length() ? query.charAt(i) : 0;
+    }
+
+    private static int lastNonWhitespace(final CharSequence value) {
+        int i = value.length() - 1;
+        while (i >= 0 && Character.isWhitespace(value.charAt(i))) {
+            i--;
+        }
+        return i;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+
+/**
+ * Thread-safe date/time formatting and parsing based on immutable {@link DateTimeFormatter}s.
+ *
+ * @author Michele Rastelli
+ */
+public final class DateUtils {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
+            .ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    /**
+     * ISO 8601 date time with optional fraction of seconds and optional offset (defaults to UTC), accepting both
+     * {@code +HH:MM} and {@code +HHMM} offsets.
+     */
+    private static final DateTimeFormatter PARSER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .optionalStart().appendOffset("+HH:MM", "Z").optionalEnd()
+            .optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+            .parseDefaulting(ChronoField.OFFSET_SECONDS, 0)
+            .toFormatter();
+
+    private DateUtils() {
+        super();
+    }
+
+    /**
+     * @param date the date to format
+     * @return the date formatted as {@code yyyy-MM-dd'T'HH:mm:ss.SSS'Z'} in UTC
+     */
+    public static String format(final Date date) {
+        // Date#toInstant() is not supported by java.sql.Date
+        return DATE_FORMATTER.format(Instant.ofEpochMilli(date.getTime()));
+    }
+
+    public static String format(final Instant instant) {
+        return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+
+    public static String format(final LocalDateTime dateTime) {
+        return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+
+    public static String format(final OffsetDateTime dateTime) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(dateTime);
+    }
+
+    public static Date parseDate(final String source) {
+        return new Date(parseInstant(source).toEpochMilli());
+    }
+
+    public static Instant parseInstant(final String source) {
+        return parseOffsetDateTime(source).toInstant();
+    }
+
+    public static OffsetDateTime parseOffsetDateTime(final String source) {
+        return OffsetDateTime.from(parse(source));
+    }
+
+    public static LocalDateTime parseLocalDateTime(final String source) {
+        return LocalDateTime.from(parse(source));
+    }
+
+    private static TemporalAccessor parse(final String source) {
+        return PARSER.parse(source);
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.entity.DocumentField;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, thread-safe dictionary of attribute names, keyed by the raw UTF-8 bytes of the attribute name in the
+ * VelocyPack buffer. Looking up an attribute name which is already present does not create a new {@link String}, so
+ * that documents with the same shape share the same attribute name instances.
+ * <p>
+ * The dictionary is a direct-mapped cache: on hash collision the older entry is replaced, so its size never exceeds
+ * the configured capacity.
+ *
+ * @author Michele Rastelli
+ */
+public class AttributeNameDictionary {
+
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * attribute names longer than this are never cached
+     */
+    private static final int MAX_NAME_LENGTH = 64;
+
+    private static final class Entry {
+        private final byte[] bytes;
+        private final int hash;
+        private final String name;
+
+        private Entry(final byte[] bytes, final int hash, final String name) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.name = name;
+        }
+    }
+
+    private volatile AtomicReferenceArray<Entry> entries;
+
+    public AttributeNameDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public AttributeNameDictionary(final int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Sets the maximum number of cached attribute names, rounded up to the next power of 2. A value of {@code 0}
+     * disables the dictionary. Already cached names are discarded.
+     *
+     * @param capacity maximum number of cached attribute names
+     */
+    public void setCapacity(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        entries = capacity == 0 ? null : new AtomicReferenceArray<>(tableSize(capacity));
+    }
+
+    /**
+     * @param key attribute name slice, as returned by {@link VPackSlice#keyAt(int)}
+     * @return the attribute name
+     */
+    public String get(final VPackSlice key) {
+        if (!key.isString()) {
+            return translate(key);
+        }
+        final AtomicReferenceArray<Entry> table = entries;
+        final int head = key.head() & 0xff;
+        // long strings (0xbf) are never cached
+        if (table == null || head == 0xbf || head - 0x40 > MAX_NAME_LENGTH) {
+            return key.getAsString();
+        }
+        final byte[] buffer = key.getBuffer();
+        final int offset = key.getStart() + 1;
+        final int length = head - 0x40;
+        final int hash = hash(buffer, offset, length);
+        final int index = hash & (table.length() - 1);
+        final Entry entry = table.get(index);
+        if (entry != null && entry.hash == hash && equals(entry.bytes, buffer, offset, length)) {
+            return entry.name;
+        }
+        final byte[] bytes = Arrays.copyOfRange(buffer, offset, offset + length);
+        final String name = new String(bytes, StandardCharsets.UTF_8);
+        table.set(index, new Entry(bytes, hash, name));
+        return name;
+    }
+
+    /**
+     * Attribute names of the system attributes can be sent by the server as small integers, see
+     * {@code arangodb/velocypack} attribute translation.
+     */
+    private static String translate(final VPackSlice key) {
+        switch (key.getAsInt()) {
+            case 1:
+                return DocumentField.Type.KEY.getSerializeName();
+            case 2:
+                return DocumentField.Type.REV.getSerializeName();
+            case 3:
+                return DocumentField.Type.ID.getSerializeName();
+            case 4:
+                return DocumentField.Type.FROM.getSerializeName();
+            case 5:
+                return DocumentField.Type.TO.getSerializeName();
+            default:
+                throw new IllegalArgumentException("Unknown attribute translation: " + key.getAsInt());
+        }
+    }
+
+    private static int tableSize(final int capacity) {
+        final int size = Integer.highestOneBit(Math.min(capacity, 1 << 30));
+        return size < capacity ? size << 1 : size;
+    }
+
+    private static int hash(final byte[] buffer, final int offset, final int length) {
+        int h = 1;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + buffer[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean equals(final byte[] bytes, final byte[] buffer, final int offset, final int length) {
+        if (bytes.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
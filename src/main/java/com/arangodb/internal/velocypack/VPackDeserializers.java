@@ -23,7 +23,9 @@ package com.arangodb.internal.velocypack;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.*;
 import com.arangodb.entity.arangosearch.analyzer.*;
+import com.arangodb.internal.util.DateUtils;
 import com.arangodb.model.CollectionSchema;
+import com.arangodb.velocypack.VPackDeserializationContext;
 import com.arangodb.velocypack.VPackDeserializer;
 import com.arangodb.velocypack.VPackParser;
 import com.arangodb.velocypack.VPackSlice;
@@ -31,8 +33,7 @@ import com.arangodb.velocystream.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -42,7 +43,6 @@ import java.util.Map.Entry;
 public class VPackDeserializers {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VPackDeserializers.class);
-    private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
     public static final VPackDeserializer<Response> RESPONSE = (parent, vpack, context) -> {
         final Response response = new Response();
@@ -85,12 +85,38 @@ public class VPackDeserializers {
     @SuppressWarnings("unchecked")
     public static final VPackDeserializer<BaseEdgeDocument> BASE_EDGE_DOCUMENT = (parent, vpack, context) -> new BaseEdgeDocument((Map) context.deserialize(vpack, Map.class));
 
+    public static VPackDeserializer<BaseDocument> baseDocument(final AttributeNameDictionary dictionary) {
+        return (parent, vpack, context) -> new BaseDocument(deserializeProperties(vpack, context, dictionary));
+    }
+
+    public static VPackDeserializer<BaseEdgeDocument> baseEdgeDocument(final AttributeNameDictionary dictionary) {
+        return (parent, vpack, context) -> new BaseEdgeDocument(deserializeProperties(vpack, context, dictionary));
+    }
+
+    private static Map<String, Object> deserializeProperties(
+            final VPackSlice vpack,
+            final VPackDeserializationContext context,
+            final AttributeNameDictionary dictionary) {
+        final int size = vpack.getLength();
+        final Map<String, Object> properties = new HashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            properties.put(dictionary.get(vpack.keyAt(i)), context.deserialize(vpack.valueAt(i), Object.class));
+        }
+        return properties;
+    }
+
     public static final VPackDeserializer<Date> DATE_STRING = (parent, vpack, context) -> {
+        if (vpack.isInteger()) {
+            return new Date(vpack.getAsLong());
+        }
+        if (vpack.isDate()) {
+            return vpack.getAsDate();
+        }
         try {
-            return new SimpleDateFormat(DATE_TIME_FORMAT).parse(vpack.getAsString());
-        } catch (final ParseException e) {
+            return DateUtils.parseDate(vpack.getAsString());
+        } catch (final DateTimeParseException e) {
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("got ParseException for date string: " + vpack.getAsString());
+                LOGGER.debug("got DateTimeParseException for date string: " + vpack.getAsString());
             }
         }
         return null;
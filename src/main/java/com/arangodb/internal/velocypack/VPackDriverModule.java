@@ -44,6 +44,21 @@ import java.util.Date;
  */
 public class VPackDriverModule implements VPackModule, VPackParserModule {
 
+    private final AttributeNameDictionary attributeNameDictionary;
+
+    public VPackDriverModule() {
+        this(null);
+    }
+
+    /**
+     * @param attributeNameDictionary dictionary used to share the attribute names of deserialized
+     *                                {@link BaseDocument} and {@link BaseEdgeDocument}, can be {@code null}
+     */
+    public VPackDriverModule(final AttributeNameDictionary attributeNameDictionary) {
+        super();
+        this.attributeNameDictionary = attributeNameDictionary;
+    }
+
     @Override
     public <C extends VPackSetupContext<C>> void setup(final C context) {
         context.fieldNamingStrategy(field -> {
@@ -72,9 +87,15 @@ public class VPackDriverModule implements VPackModule, VPackParserModule {
         context.registerDeserializer(Response.class, VPackDeserializers.RESPONSE);
         context.registerDeserializer(CollectionType.class, VPackDeserializers.COLLECTION_TYPE);
         context.registerDeserializer(CollectionStatus.class, VPackDeserializers.COLLECTION_STATUS);
-        context.registerDeserializer(BaseDocument.class, VPackDeserializers.BASE_DOCUMENT);
+        if (attributeNameDictionary != null) {
+            context.registerDeserializer(BaseDocument.class, VPackDeserializers.baseDocument(attributeNameDictionary));
+            context.registerDeserializer(BaseEdgeDocument.class,
+                    VPackDeserializers.baseEdgeDocument(attributeNameDictionary));
+        } else {
+            context.registerDeserializer(BaseDocument.class, VPackDeserializers.BASE_DOCUMENT);
+            context.registerDeserializer(BaseEdgeDocument.class, VPackDeserializers.BASE_EDGE_DOCUMENT);
+        }
         context.registerDeserializer(SearchAnalyzer.class, VPackDeserializers.SEARCH_ANALYZER);
-        context.registerDeserializer(BaseEdgeDocument.class, VPackDeserializers.BASE_EDGE_DOCUMENT);
         context.registerDeserializer(QueryEntity.PROPERTY_STARTED, Date.class, VPackDeserializers.DATE_STRING);
         context.registerDeserializer(LogLevel.class, VPackDeserializers.LOG_LEVEL);
         context.registerDeserializer(License.class, VPackDeserializers.LICENSE);
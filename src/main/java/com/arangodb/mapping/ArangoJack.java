@@ -79,6 +79,9 @@ public class ArangoJack implements ArangoSerialization {
         module.addSerializer(java.util.Date.class, VPackSerializers.UTIL_DATE);
         module.addSerializer(java.sql.Date.class, VPackSerializers.SQL_DATE);
         module.addSerializer(java.sql.Timestamp.class, VPackSerializers.SQL_TIMESTAMP);
+        module.addSerializer(java.time.Instant.class, VPackSerializers.INSTANT);
+        module.addSerializer(java.time.LocalDateTime.class, VPackSerializers.LOCAL_DATE_TIME);
+        module.addSerializer(java.time.OffsetDateTime.class, VPackSerializers.OFFSET_DATE_TIME);
         module.addSerializer(BaseDocument.class, VPackSerializers.BASE_DOCUMENT);
         module.addSerializer(BaseEdgeDocument.class, VPackSerializers.BASE_EDGE_DOCUMENT);
 
@@ -86,6 +89,9 @@ public class ArangoJack implements ArangoSerialization {
         module.addDeserializer(java.util.Date.class, VPackDeserializers.UTIL_DATE);
         module.addDeserializer(java.sql.Date.class, VPackDeserializers.SQL_DATE);
         module.addDeserializer(java.sql.Timestamp.class, VPackDeserializers.SQL_TIMESTAMP);
+        module.addDeserializer(java.time.Instant.class, VPackDeserializers.INSTANT);
+        module.addDeserializer(java.time.LocalDateTime.class, VPackDeserializers.LOCAL_DATE_TIME);
+        module.addDeserializer(java.time.OffsetDateTime.class, VPackDeserializers.OFFSET_DATE_TIME);
         module.addDeserializer(BaseDocument.class, VPackDeserializers.BASE_DOCUMENT);
         module.addDeserializer(BaseEdgeDocument.class, VPackDeserializers.BASE_EDGE_DOCUMENT);
 
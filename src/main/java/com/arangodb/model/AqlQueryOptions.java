@@ -49,6 +49,12 @@ public class AqlQueryOptions implements Serializable {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    @Expose(serialize = false)
+    private Integer prefetch;
+    @Expose(serialize = false)
+    private Long adaptiveBatchSize;
+    @Expose(serialize = false)
+    private String resumableBy;
 
     public AqlQueryOptions() {
         super();
@@ -458,4 +464,60 @@ public class AqlQueryOptions implements Serializable {
         return this;
     }
 
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @param prefetch Number of batches to fetch in background ahead of the batch being consumed. The next batches
+     *                 are still requested one after the other, but without waiting for the consumer to reach the end
+     *                 of the current one. At most {@code prefetch} batches are kept in memory in addition to the
+     *                 current one. {@code null} or {@code 0} disables prefetching (default).
+     * @return options
+     */
+    public AqlQueryOptions prefetch(final Integer prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    public Long getAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    /**
+     * @param adaptiveBatchSize Maximum size in bytes of the batches fetched after the first one. If set, the batch size
+     *                          requested for the subsequent batches is increased while the consumer is faster than
+     *                          the server and reduced whenever the batches would exceed this size. The first batch is
+     *                          still fetched with {@link #batchSize(Integer)}. {@code null} disables the tuning
+     *                          (default).
+     * @return options
+     * @since ArangoDB 3.8.0
+     */
+    public AqlQueryOptions adaptiveBatchSize(final Long adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+
+    public String getResumableBy() {
+        return resumableBy;
+    }
+
+    /**
+     * @param resumableBy Attribute of the query results holding a unique sort key, if the query returns the results
+     *                    in ascending order of this attribute. If set and the coordinator holding the cursor becomes
+     *                    unreachable, the query is executed again on another coordinator, filtering out the results
+     *                    up to the last received one, and the iteration continues. The re-executed query is
+     *                    {@code FOR resumed IN (<query>) FILTER resumed[@resumeBy] > @resumeAfter RETURN resumed}, so
+     *                    the bind parameters {@code resumeBy} and {@code resumeAfter} cannot be used in the query.
+     *                    As the original query is a subquery there, the server materializes its whole result before
+     *                    filtering it, so resuming is only suited to queries whose result fits into the memory of
+     *                    the coordinator. After resuming, {@link com.arangodb.ArangoCursor#getId()} returns the id of
+     *                    the new cursor. {@code null} disables resuming (default).
+     * @return options
+     */
+    public AqlQueryOptions resumableBy(final String resumableBy) {
+        this.resumableBy = resumableBy;
+        return this;
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * @author Michele Rastelli
+ */
+public class BulkWriterOptions {
+
+    private Integer batchSize;
+    private Integer batchBytes;
+    private Integer maxInFlight;
+    private DocumentCreateOptions documentCreateOptions;
+
+    public BulkWriterOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents per request (default: 1000)
+     * @return options
+     */
+    public BulkWriterOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * @param batchBytes maximum size in bytes of the serialized documents of a request. A request is sent as soon as
+     *                   either this size or {@link #batchSize(Integer)} is reached. (default: 4 MiB)
+     * @return options
+     */
+    public BulkWriterOptions batchBytes(final Integer batchBytes) {
+        this.batchBytes = batchBytes;
+        return this;
+    }
+
+    public Integer getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @param maxInFlight maximum number of requests executed concurrently. When reached, adding documents blocks until
+     *                    a request completes. Concurrent requests are spread over the connections of the pool, see
+     *                    {@link com.arangodb.ArangoDB.Builder#maxConnections(Integer)}. (default: 4)
+     * @return options
+     */
+    public BulkWriterOptions maxInFlight(final Integer maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    public DocumentCreateOptions getDocumentCreateOptions() {
+        return documentCreateOptions;
+    }
+
+    /**
+     * @param documentCreateOptions options of the insert requests
+     * @return options
+     */
+    public BulkWriterOptions documentCreateOptions(final DocumentCreateOptions documentCreateOptions) {
+        this.documentCreateOptions = documentCreateOptions;
+        return this;
+    }
+
+}
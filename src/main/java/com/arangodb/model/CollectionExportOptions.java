@@ -0,0 +1,110 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+import java.util.Map;
+
+/**
+ * @author Michele Rastelli
+ */
+public class CollectionExportOptions {
+
+    private Integer parallelism;
+    private Integer batchSize;
+    private Map<String, String> resumeAfter;
+    private ProgressListener progressListener;
+
+    public CollectionExportOptions() {
+        super();
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism maximum number of partitions exported concurrently. On a single server this is also the
+     *                    number of key ranges the collection is split into. (default: number of available processors)
+     * @return options
+     */
+    public CollectionExportOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents per batch of each partition cursor
+     * @return options
+     */
+    public CollectionExportOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Map<String, String> getResumeAfter() {
+        return resumeAfter;
+    }
+
+    /**
+     * @param resumeAfter last exported key of each partition, as reported to the {@link ProgressListener} of a
+     *                    previous export. Only documents after these keys are exported.
+     * @return options
+     */
+    public CollectionExportOptions resumeAfter(final Map<String, String> resumeAfter) {
+        this.resumeAfter = resumeAfter;
+        return this;
+    }
+
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * @param progressListener notified after each exported batch
+     * @return options
+     */
+    public CollectionExportOptions progressListener(final ProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Receives the progress of a parallel export. Invoked concurrently by the threads exporting the partitions.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Invoked after all the documents of a batch have been passed to the consumer.
+         *
+         * @param partition the exported partition: shard id in a cluster, lower bound of the key range on a single
+         *                  server
+         * @param lastKey   key of the last exported document of the partition
+         * @param exported  number of documents exported so far from the partition
+         */
+        void progress(String partition, String lastKey, long exported);
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * @author Michele Rastelli
+ */
+public class CollectionReloadOptions {
+
+    private BulkWriterOptions bulkWriterOptions;
+    private Integer indexParallelism;
+    private String shadowName;
+
+    public CollectionReloadOptions() {
+        super();
+    }
+
+    public BulkWriterOptions getBulkWriterOptions() {
+        return bulkWriterOptions;
+    }
+
+    /**
+     * @param bulkWriterOptions options of the writer loading the documents into the shadow collection
+     * @return options
+     */
+    public CollectionReloadOptions bulkWriterOptions(final BulkWriterOptions bulkWriterOptions) {
+        this.bulkWriterOptions = bulkWriterOptions;
+        return this;
+    }
+
+    public Integer getIndexParallelism() {
+        return indexParallelism;
+    }
+
+    /**
+     * @param indexParallelism maximum number of indexes built concurrently after the load (default: 4)
+     * @return options
+     */
+    public CollectionReloadOptions indexParallelism(final Integer indexParallelism) {
+        this.indexParallelism = indexParallelism;
+        return this;
+    }
+
+    public String getShadowName() {
+        return shadowName;
+    }
+
+    /**
+     * @param shadowName name of the collection the documents are loaded into, must not exist (default: the name of the
+     *                   collection followed by {@code _reload})
+     * @return options
+     */
+    public CollectionReloadOptions shadowName(final String shadowName) {
+        this.shadowName = shadowName;
+        return this;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * @author Michele Rastelli
+ */
+public class DeleteWhereOptions {
+
+    private Integer batchSize;
+    private Long intermediateCommitCount;
+    private Integer parallelism;
+    private ProgressListener progressListener;
+
+    public DeleteWhereOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents removed by each query (default: 10000)
+     * @return options
+     */
+    public DeleteWhereOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Long getIntermediateCommitCount() {
+        return intermediateCommitCount;
+    }
+
+    /**
+     * @param intermediateCommitCount maximum number of operations after which an intermediate commit is performed
+     *                                within each query
+     * @return options
+     */
+    public DeleteWhereOptions intermediateCommitCount(final Long intermediateCommitCount) {
+        this.intermediateCommitCount = intermediateCommitCount;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism maximum number of shards processed concurrently in a cluster, ignored on a single server
+     *                    (default: number of available processors)
+     * @return options
+     */
+    public DeleteWhereOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public ProgressListener getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * @param progressListener notified after each query
+     * @return options
+     */
+    public DeleteWhereOptions progressListener(final ProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    /**
+     * Receives the progress of a delete. Invoked concurrently by the threads processing the shards.
+     */
+    public interface ProgressListener {
+
+        /**
+         * Invoked after each query removing a batch of documents.
+         *
+         * @param partition  the shard id in a cluster, {@code null} on a single server
+         * @param deleted    number of documents removed so far from the partition
+         * @param throughput documents removed per second from the partition so far
+         */
+        void progress(String partition, long deleted, double throughput);
+
+    }
+
+}
@@ -36,6 +36,8 @@ public class DocumentImportOptions {
     private OnDuplicate onDuplicate;
     private Boolean complete;
     private Boolean details;
+    private Integer chunkSize;
+    private Integer parallelism;
 
     public DocumentImportOptions() {
         super();
@@ -150,4 +152,33 @@ public class DocumentImportOptions {
         return this;
     }
 
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param chunkSize Approximate size in characters of the requests sent when importing from an
+     *                  {@code InputStream} or a file (default: 8 MiB)
+     * @return options
+     */
+    public DocumentImportOptions chunkSize(final Integer chunkSize) {
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism Maximum number of requests executed concurrently when importing from an {@code InputStream}
+     *                    or a file. With values greater than 1 the documents of different requests are imported in
+     *                    no particular order. (default: 1)
+     * @return options
+     */
+    public DocumentImportOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
@@ -36,6 +36,8 @@ public class DocumentReadOptions {
     @Expose(serialize = false)
     private Boolean allowDirtyRead;
     private String streamTransactionId;
+    private Integer batchSize;
+    private Integer parallelism;
 
     public DocumentReadOptions() {
         super();
@@ -111,4 +113,34 @@ public class DocumentReadOptions {
         return this;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize Maximum number of keys per request of a multi-document read. Larger key sets are split into
+     *                  several requests, executed concurrently. {@code null} reads all the keys with one request
+     *                  (default).
+     * @return options
+     */
+    public DocumentReadOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism Maximum number of requests executed concurrently when a multi-document read is split, see
+     *                    {@link #batchSize(Integer)}. Always 1 within a stream transaction, see
+     *                    {@link #streamTransactionId(String)}. (default: 4)
+     * @return options
+     */
+    public DocumentReadOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
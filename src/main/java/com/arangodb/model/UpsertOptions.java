@@ -0,0 +1,91 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * @author Michele Rastelli
+ */
+public class UpsertOptions {
+
+    private Integer batchSize;
+    private Integer maxRetries;
+    private Long retryDelay;
+    private Boolean waitForSync;
+
+    public UpsertOptions() {
+        super();
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of documents per request (default: 1000)
+     * @return options
+     */
+    public UpsertOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * @param maxRetries maximum number of times a document failing with a write-write conflict or a lock timeout is
+     *                   retried (default: 5)
+     * @return options
+     */
+    public UpsertOptions maxRetries(final Integer maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public Long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * @param retryDelay base delay in milliseconds before retrying the failed documents of a batch, doubled on each
+     *                   further retry and randomized by &plusmn;50% (default: 50)
+     * @return options
+     */
+    public UpsertOptions retryDelay(final Long retryDelay) {
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    public Boolean getWaitForSync() {
+        return waitForSync;
+    }
+
+    /**
+     * @param waitForSync Wait until the documents have been synced to disk.
+     * @return options
+     */
+    public UpsertOptions waitForSync(final Boolean waitForSync) {
+        this.waitForSync = waitForSync;
+        return this;
+    }
+
+}
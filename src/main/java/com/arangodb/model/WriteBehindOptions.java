@@ -0,0 +1,183 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+import com.arangodb.ArangoDBException;
+
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * @author Michele Rastelli
+ */
+public class WriteBehindOptions {
+
+    private Path journal;
+    private Integer journalCapacity;
+    private Boolean syncJournal;
+    private Integer batchSize;
+    private Long retryDelay;
+    private Long maxRetryDelay;
+    private DocumentCreateOptions documentCreateOptions;
+    private DocumentUpdateOptions documentUpdateOptions;
+    private DocumentDeleteOptions documentDeleteOptions;
+    private Consumer<ArangoDBException> errorConsumer;
+
+    public WriteBehindOptions() {
+        super();
+    }
+
+    public Path getJournal() {
+        return journal;
+    }
+
+    /**
+     * @param journal the journal file, created if it does not exist. Operations found in an existing journal are sent
+     *                to the server. The file is locked while the writer is open, opening a second writer on the
+     *                same file fails.
+     * @return options
+     */
+    public WriteBehindOptions journal(final Path journal) {
+        this.journal = journal;
+        return this;
+    }
+
+    public Integer getJournalCapacity() {
+        return journalCapacity;
+    }
+
+    /**
+     * @param journalCapacity size in bytes of the journal file (default: 64 MiB)
+     * @return options
+     */
+    public WriteBehindOptions journalCapacity(final Integer journalCapacity) {
+        this.journalCapacity = journalCapacity;
+        return this;
+    }
+
+    public Boolean getSyncJournal() {
+        return syncJournal;
+    }
+
+    /**
+     * @param syncJournal if true, every operation is synced to the storage device before being acknowledged, so that
+     *                    it survives a crash of the operating system. Otherwise it only survives a crash of the
+     *                    process. (default: false)
+     * @return options
+     */
+    public WriteBehindOptions syncJournal(final Boolean syncJournal) {
+        this.syncJournal = syncJournal;
+        return this;
+    }
+
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize maximum number of operations per request (default: 1000)
+     * @return options
+     */
+    public WriteBehindOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Long getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * @param retryDelay delay in milliseconds before the first retry of a failed request, doubled on each further
+     *                   retry (default: 100)
+     * @return options
+     */
+    public WriteBehindOptions retryDelay(final Long retryDelay) {
+        this.retryDelay = retryDelay;
+        return this;
+    }
+
+    public Long getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    /**
+     * @param maxRetryDelay maximum delay in milliseconds between retries (default: 10000)
+     * @return options
+     */
+    public WriteBehindOptions maxRetryDelay(final Long maxRetryDelay) {
+        this.maxRetryDelay = maxRetryDelay;
+        return this;
+    }
+
+    public DocumentCreateOptions getDocumentCreateOptions() {
+        return documentCreateOptions;
+    }
+
+    /**
+     * @param documentCreateOptions options of the insert requests
+     * @return options
+     */
+    public WriteBehindOptions documentCreateOptions(final DocumentCreateOptions documentCreateOptions) {
+        this.documentCreateOptions = documentCreateOptions;
+        return this;
+    }
+
+    public DocumentUpdateOptions getDocumentUpdateOptions() {
+        return documentUpdateOptions;
+    }
+
+    /**
+     * @param documentUpdateOptions options of the update requests
+     * @return options
+     */
+    public WriteBehindOptions documentUpdateOptions(final DocumentUpdateOptions documentUpdateOptions) {
+        this.documentUpdateOptions = documentUpdateOptions;
+        return this;
+    }
+
+    public DocumentDeleteOptions getDocumentDeleteOptions() {
+        return documentDeleteOptions;
+    }
+
+    /**
+     * @param documentDeleteOptions options of the delete requests
+     * @return options
+     */
+    public WriteBehindOptions documentDeleteOptions(final DocumentDeleteOptions documentDeleteOptions) {
+        this.documentDeleteOptions = documentDeleteOptions;
+        return this;
+    }
+
+    public Consumer<ArangoDBException> getErrorConsumer() {
+        return errorConsumer;
+    }
+
+    /**
+     * @param errorConsumer receives the errors of the operations rejected by the server, from the thread of the writer
+     * @return options
+     */
+    public WriteBehindOptions errorConsumer(final Consumer<ArangoDBException> errorConsumer) {
+        this.errorConsumer = errorConsumer;
+        return this;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.model;
+
+/**
+ * @author Michele Rastelli
+ */
+public class WriteCoalescingOptions {
+
+    private Integer maxBatchSize;
+    private Integer maxDelay;
+
+    public WriteCoalescingOptions() {
+        super();
+    }
+
+    public Integer getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @param maxBatchSize maximum number of single-document writes sent in one request. A request is sent as soon as
+     *                     this number is reached, without waiting for {@link #maxDelay(Integer)}. (default: 100)
+     * @return options
+     */
+    public WriteCoalescingOptions maxBatchSize(final Integer maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public Integer getMaxDelay() {
+        return maxDelay;
+    }
+
+    /**
+     * @param maxDelay maximum time in microseconds the first write of a batch waits for further writes to be
+     *                 coalesced with (default: 1000)
+     * @return options
+     */
+    public WriteCoalescingOptions maxDelay(final Integer maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+}
@@ -20,6 +20,7 @@
 
 package com.arangodb.velocystream;
 
+import com.arangodb.velocypack.VPackParser;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.annotations.Expose;
 
@@ -31,6 +32,8 @@ import java.util.Map;
  */
 public class Request {
 
+    private static final VPackParser JSON_PARSER = new VPackParser.Builder().build();
+
     private int version = 1;
     private int type = 1;
     private final String database;
@@ -40,6 +43,8 @@ public class Request {
     private final Map<String, String> headerParam;
     @Expose(serialize = false)
     private VPackSlice body;
+    @Expose(serialize = false)
+    private String jsonBody;
 
     public Request(final String database, final RequestType requestType, final String path) {
         super();
@@ -47,6 +52,7 @@ public class Request {
         this.requestType = requestType;
         this.request = path;
         body = null;
+        jsonBody = null;
         queryParam = new HashMap<>();
         headerParam = new HashMap<>();
     }
@@ -103,12 +109,39 @@ public class Request {
         return this;
     }
 
+    /**
+     * @return the body as VelocyPack. If the body has been set as JSON text, it is converted on first access, removing
+     * the attributes with {@code null} value.
+     */
     public VPackSlice getBody() {
+        if (body == null && jsonBody != null) {
+            body = JSON_PARSER.fromJson(jsonBody, false);
+        }
         return body;
     }
 
     public Request setBody(final VPackSlice body) {
         this.body = body;
+        this.jsonBody = null;
+        return this;
+    }
+
+    /**
+     * @return the body as JSON text, if it has been set via {@link #setJsonBody(String)}, otherwise {@code null}
+     */
+    public String getJsonBody() {
+        return jsonBody;
+    }
+
+    /**
+     * Sets the body as JSON text. Protocols using JSON send it as is, without parsing it on the client side.
+     *
+     * @param jsonBody the JSON text
+     * @return request
+     */
+    public Request setJsonBody(final String jsonBody) {
+        this.jsonBody = jsonBody;
+        this.body = null;
         return this;
     }
 
@@ -25,6 +25,8 @@ import com.arangodb.model.*;
 import com.arangodb.model.DocumentImportOptions.OnDuplicate;
 import com.arangodb.util.MapBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.BeforeClass;
@@ -33,9 +35,22 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -435,6 +450,55 @@ public class ArangoCollectionTest extends BaseTest {
         }
     }
 
+    @Test
+    public void getDocumentsWithConsumer() {
+        final String prefix = "consumer" + UUID.randomUUID() + "_";
+        final Collection<BaseDocument> values = new ArrayList<>();
+        values.add(new BaseDocument(prefix + 1));
+        values.add(new BaseDocument(prefix + 2));
+        collection.insertDocuments(values);
+        final List<BaseDocument> docs = new ArrayList<>();
+        final List<ErrorEntity> errors = new ArrayList<>();
+        collection.getDocuments(Arrays.asList(prefix + 1, prefix + 2, prefix + "missing"), BaseDocument.class, null,
+                new MultiDocumentConsumer<BaseDocument>() {
+                    @Override
+                    public void document(final BaseDocument document) {
+                        docs.add(document);
+                    }
+
+                    @Override
+                    public void error(final ErrorEntity error) {
+                        errors.add(error);
+                    }
+                });
+        assertThat(docs.size(), is(2));
+        assertThat(docs.get(0).getKey(), is(prefix + 1));
+        assertThat(docs.get(1).getKey(), is(prefix + 2));
+        assertThat(errors.size(), is(1));
+        assertThat(errors.get(0).getErrorNum(), is(1202));
+    }
+
+    @Test
+    public void getDocumentsSplit() {
+        final String prefix = "split" + UUID.randomUUID() + "_";
+        final List<String> keys = new ArrayList<>();
+        final Collection<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            keys.add(prefix + i);
+            values.add(new BaseDocument(prefix + i));
+        }
+        collection.insertDocuments(values);
+        keys.add(10, prefix + "missing");
+        final MultiDocumentEntity<BaseDocument> documents = collection.getDocuments(keys, BaseDocument.class,
+                new DocumentReadOptions().batchSize(5).parallelism(3));
+        assertThat(documents.getDocuments().size(), is(23));
+        assertThat(documents.getErrors().size(), is(1));
+        final List<Object> documentsAndErrors = new ArrayList<>(documents.getDocumentsAndErrors());
+        assertThat(documentsAndErrors.size(), is(24));
+        assertThat(documentsAndErrors.get(10), is(instanceOf(ErrorEntity.class)));
+        assertThat(((BaseDocument) documentsAndErrors.get(23)).getKey(), is(prefix + 22));
+    }
+
     @Test
     public void getDocumentsWithCustomShardingKey() {
         ArangoCollection collection = db.collection("customShardingKeyCollection");
@@ -1587,6 +1651,273 @@ public class ArangoCollectionTest extends BaseTest {
         assertThat(docs.getErrors().size(), is(0));
     }
 
+    @Test
+    public void insertDocumentsWithConsumer() {
+        final BaseDocument doc = new BaseDocument();
+        doc.setKey(rnd());
+        final Collection<BaseDocument> values = Arrays.asList(doc, new BaseDocument(), doc);
+        final List<Object> results = new ArrayList<>();
+        collection.insertDocuments(values, new DocumentCreateOptions().returnNew(true),
+                new MultiDocumentConsumer<DocumentCreateEntity<BaseDocument>>() {
+                    @Override
+                    public void document(final DocumentCreateEntity<BaseDocument> document) {
+                        results.add(document);
+                    }
+
+                    @Override
+                    public void error(final ErrorEntity error) {
+                        results.add(error);
+                    }
+                });
+        assertThat(results.size(), is(3));
+        assertThat(results.get(0), instanceOf(DocumentCreateEntity.class));
+        assertThat(((DocumentCreateEntity<?>) results.get(0)).getKey(), is(doc.getKey()));
+        assertThat(((DocumentCreateEntity<?>) results.get(0)).getNew(), is(notNullValue()));
+        assertThat(results.get(1), instanceOf(DocumentCreateEntity.class));
+        assertThat(results.get(2), instanceOf(ErrorEntity.class));
+    }
+
+    @Test
+    public void exportParallel() {
+        final ArangoCollection col = db.collection("exportParallel_" + rnd());
+        col.create();
+        try {
+            final Collection<BaseDocument> docs = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                docs.add(new BaseDocument(String.format("%03d", i)));
+            }
+            col.insertDocuments(docs);
+
+            final Set<String> exported = Collections.synchronizedSet(new HashSet<>());
+            final Map<String, String> lastKeys = new java.util.concurrent.ConcurrentHashMap<>();
+            col.exportParallel(BaseDocument.class, new CollectionExportOptions()
+                            .parallelism(4)
+                            .batchSize(10)
+                            .progressListener((partition, lastKey, count) -> lastKeys.put(partition, lastKey)),
+                    doc -> exported.add(doc.getKey()));
+            assertThat(exported.size(), is(100));
+            assertThat(lastKeys.values(), hasItem("099"));
+
+            final List<String> resumed = Collections.synchronizedList(new ArrayList<>());
+            col.exportParallel(String.class, new CollectionExportOptions().parallelism(4).resumeAfter(lastKeys),
+                    resumed::add);
+            assertThat(resumed, is(empty()));
+        } finally {
+            col.drop();
+        }
+    }
+
+    @Test
+    public void withWriteCoalescing() throws InterruptedException, ExecutionException {
+        final String prefix = "withWriteCoalescing" + UUID.randomUUID() + "_";
+        // the first write of a batch waits up to maxDelay, unless maxBatchSize writes join it
+        final int maxDelay = 30_000_000;
+        final ArangoCollection coalescing = collection.withWriteCoalescing(
+                new WriteCoalescingOptions().maxBatchSize(10).maxDelay(maxDelay));
+        final ExecutorService executor = Executors.newFixedThreadPool(10);
+        final long start = System.nanoTime();
+        try {
+            final List<Future<DocumentCreateEntity<BaseDocument>>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                final BaseDocument doc = new BaseDocument(prefix + i);
+                results.add(executor.submit(() -> coalescing.insertDocument(doc)));
+            }
+            for (int i = 0; i < 40; i++) {
+                assertThat(results.get(i).get().getKey(), is(prefix + i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(System.nanoTime() - start, is(lessThan(TimeUnit.MICROSECONDS.toNanos(maxDelay))));
+
+        final ArangoCollection single = collection.withWriteCoalescing(
+                new WriteCoalescingOptions().maxBatchSize(10).maxDelay(10_000));
+        final BaseDocument update = new BaseDocument();
+        update.addAttribute("value", 1);
+        final DocumentUpdateEntity<BaseDocument> updated = single.updateDocument(prefix + 0, update);
+        assertThat(updated.getRev(), is(notNullValue()));
+        try {
+            single.insertDocument(new BaseDocument(prefix + 0));
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getErrorNum(), is(1210));
+        }
+    }
+
+    @Test
+    public void withWriteCoalescingErrors() throws InterruptedException, ExecutionException {
+        final String key = "withWriteCoalescingErrors" + UUID.randomUUID();
+        collection.insertDocument(new BaseDocument(key));
+        ArangoDBException single = null;
+        try {
+            collection.insertDocument(new BaseDocument(key));
+            fail();
+        } catch (final ArangoDBException e) {
+            single = e;
+        }
+
+        final ArangoCollection coalescing = collection.withWriteCoalescing(
+                new WriteCoalescingOptions().maxBatchSize(2).maxDelay(30_000_000));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<DocumentCreateEntity<BaseDocument>> duplicate =
+                    executor.submit(() -> coalescing.insertDocument(new BaseDocument(key)));
+            final Future<DocumentCreateEntity<BaseDocument>> other =
+                    executor.submit(() -> coalescing.insertDocument(new BaseDocument(key + "_other")));
+            try {
+                duplicate.get();
+                fail();
+            } catch (final ExecutionException e) {
+                final ArangoDBException coalesced = (ArangoDBException) e.getCause();
+                assertThat(coalesced.getResponseCode(), is(single.getResponseCode()));
+                assertThat(coalesced.getErrorNum(), is(single.getErrorNum()));
+            }
+            assertThat(other.get().getKey(), is(key + "_other"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void deleteWhere() {
+        final String tag = UUID.randomUUID().toString();
+        final List<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            final BaseDocument document = new BaseDocument();
+            document.addAttribute("tag", tag);
+            document.addAttribute("expired", i % 5 != 0);
+            values.add(document);
+        }
+        collection.insertDocuments(values);
+
+        final AtomicInteger queries = new AtomicInteger();
+        final long deleted = collection.deleteWhere("d.tag == @tag && d.expired", Collections.singletonMap("tag", tag),
+                new DeleteWhereOptions().batchSize(3).progressListener((partition, count, throughput) -> {
+                    assertThat(throughput, is(greaterThanOrEqualTo(0.0)));
+                    queries.incrementAndGet();
+                }));
+        assertThat(deleted, is(20L));
+        assertThat(queries.get(), is(greaterThanOrEqualTo(7)));
+        final Map<String, Object> bindVars = Collections.singletonMap("tag", tag);
+        assertThat(db.query("FOR d IN " + COLLECTION_NAME + " FILTER d.tag == @tag RETURN d", bindVars, null,
+                BaseDocument.class).asListRemaining().size(), is(5));
+    }
+
+    @Test
+    public void deleteWhereLike() {
+        final String tag = UUID.randomUUID().toString();
+        final List<BaseDocument> values = new ArrayList<>();
+        for (final String name : Arrays.asList("tmp-1", "tmp-2", "kept")) {
+            final BaseDocument document = new BaseDocument();
+            document.addAttribute("tag", tag);
+            document.addAttribute("name", name);
+            values.add(document);
+        }
+        collection.insertDocuments(values);
+
+        final Map<String, Object> bindVars = Collections.singletonMap("tag", tag);
+        final long deleted = collection.deleteWhere("d.tag == @tag && d.name LIKE \"tmp%\"", bindVars, null);
+        assertThat(deleted, is(2L));
+        assertThat(db.query("FOR d IN " + COLLECTION_NAME + " FILTER d.tag == @tag RETURN d.name", bindVars, null,
+                String.class).asListRemaining(), contains("kept"));
+    }
+
+    @Test
+    public void upsertAll() {
+        assumeTrue(isAtLeastVersion(3, 7));
+        final String key = "upsertAll" + UUID.randomUUID();
+        final BaseDocument existing = new BaseDocument(key + 0);
+        existing.addAttribute("a", 1);
+        collection.insertDocument(existing);
+
+        final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> merged = collection.upsertAll(
+                IntStream.range(0, 5).mapToObj(i -> {
+                    final BaseDocument document = new BaseDocument(key + i);
+                    document.addAttribute("b", i);
+                    return document;
+                }), true, new UpsertOptions().batchSize(2));
+        assertThat(merged.getDocuments().size(), is(5));
+        assertThat(merged.getErrors(), is(empty()));
+        final BaseDocument updated = collection.getDocument(key + 0, BaseDocument.class);
+        assertThat(updated.getAttribute("a"), is(1L));
+        assertThat(updated.getAttribute("b"), is(0L));
+
+        final BaseDocument replacement = new BaseDocument(key + 0);
+        replacement.addAttribute("c", 2);
+        collection.upsertAll(Stream.of(replacement), false, null);
+        final BaseDocument replaced = collection.getDocument(key + 0, BaseDocument.class);
+        assertThat(replaced.getAttribute("a"), is(nullValue()));
+        assertThat(replaced.getAttribute("c"), is(2L));
+    }
+
+    @Test
+    public void writeBehind() throws IOException {
+        final String prefix = "writeBehind" + UUID.randomUUID() + "_";
+        final Path journal = Files.createTempFile("write-behind", ".journal");
+        final WriteBehindOptions options = new WriteBehindOptions().journal(journal).journalCapacity(4096)
+                .batchSize(3);
+        try (WriteBehindWriter writer = collection.writeBehind(options)) {
+            for (int i = 0; i < 20; i++) {
+                final BaseDocument document = new BaseDocument(prefix + i);
+                document.addAttribute("value", i);
+                writer.insert(document);
+            }
+            writer.update(prefix + 0, Collections.singletonMap("value", 100));
+            writer.delete(prefix + 1);
+            writer.flush();
+            assertThat(writer.getLag(), is(0L));
+            assertThat(writer.getJournalSize(), is(0L));
+            assertThat(writer.getFailedCount(), is(0L));
+        }
+        assertThat(collection.getDocument(prefix + 0, BaseDocument.class).getAttribute("value"), is(100L));
+        assertThat(collection.documentExists(prefix + 1), is(false));
+        assertThat(collection.documentExists(prefix + 19), is(true));
+
+        try (WriteBehindWriter writer = collection.writeBehind(options)) {
+            assertThat(writer.getLag(), is(0L));
+            try {
+                collection.writeBehind(options);
+                fail();
+            } catch (final ArangoDBException e) {
+                assertThat(e.getMessage(), containsString("used by another writer"));
+            }
+            writer.insert(new BaseDocument(prefix + 0));
+            writer.flush();
+            assertThat(writer.getFailedCount(), is(1L));
+        } finally {
+            Files.delete(journal);
+        }
+    }
+
+    @Test
+    public void bulkWriter() {
+        final String prefix = "bulkWriter" + UUID.randomUUID() + "_";
+        final List<String> keys = new ArrayList<>();
+        final List<ErrorEntity> errors = new ArrayList<>();
+        final MultiDocumentConsumer<DocumentCreateEntity<BaseDocument>> consumer =
+                new MultiDocumentConsumer<DocumentCreateEntity<BaseDocument>>() {
+                    @Override
+                    public void document(final DocumentCreateEntity<BaseDocument> document) {
+                        keys.add(document.getKey());
+                    }
+
+                    @Override
+                    public void error(final ErrorEntity error) {
+                        errors.add(error);
+                    }
+                };
+        try (BulkWriter<BaseDocument> writer = collection.bulkWriter(
+                new BulkWriterOptions().batchSize(10).maxInFlight(3), consumer)) {
+            writer.addAll(IntStream.range(0, 95).mapToObj(i -> new BaseDocument(prefix + i)));
+            writer.add(new BaseDocument(prefix + 0));
+        }
+        assertThat(keys.size(), is(95));
+        assertThat(keys.get(0), is(prefix + 0));
+        assertThat(keys.get(94), is(prefix + 94));
+        assertThat(errors.size(), is(1));
+        assertThat(errors.get(0).getErrorNum(), is(1210));
+    }
+
     @Test
     public void insertDocumentsOverwrite() {
         assumeTrue(isAtLeastVersion(3, 4));
@@ -1763,6 +2094,26 @@ public class ArangoCollectionTest extends BaseTest {
         assertThat(docs.getDetails(), is(empty()));
     }
 
+    @Test
+    public void importDocumentsFromInputStream() {
+        final StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            lines.append("{\"value\": \"line ").append(i).append(" with \\\" and }\"}\n");
+        }
+        final InputStream jsonLines = new ByteArrayInputStream(
+                lines.toString().getBytes(StandardCharsets.UTF_8));
+        final DocumentImportEntity docs = collection.importDocuments(jsonLines,
+                new DocumentImportOptions().chunkSize(100).parallelism(2));
+        assertThat(docs.getCreated(), is(20));
+        assertThat(docs.getErrors(), is(0));
+
+        final InputStream jsonArray = new ByteArrayInputStream(
+                "[ {\"a\": [1, {}]}, {\"b\": \"]\"} ]".getBytes(StandardCharsets.UTF_8));
+        final DocumentImportEntity arrayDocs = collection.importDocuments(jsonArray, null);
+        assertThat(arrayDocs.getCreated(), is(2));
+        assertThat(arrayDocs.getErrors(), is(0));
+    }
+
     @Test
     public void importDocumentsDuplicateDefaultError() {
         String k1 = rnd();
@@ -1978,6 +2329,14 @@ public class ArangoCollectionTest extends BaseTest {
         assertThat(docs.getDetails(), is(empty()));
     }
 
+    @Test
+    public void importDocumentsJsonRemovesNullValuesFromVelocyPack() {
+        final VPackSlice body = new Request(db.name(), RequestType.POST, "/_api/import")
+                .setJsonBody("[{\"a\":null,\"b\":1}]").getBody();
+        assertThat(body.get(0).get("a").isNone(), is(true));
+        assertThat(body.get(0).get("b").getAsInt(), is(1));
+    }
+
     @Test
     public void importDocumentsJsonDuplicateDefaultError() throws JsonProcessingException {
         String k1 = rnd();
@@ -2562,6 +2921,37 @@ public class ArangoCollectionTest extends BaseTest {
         db.collection(COLLECTION_NAME + "1").rename(COLLECTION_NAME);
     }
 
+    @Test
+    public void reload() {
+        assumeTrue(isSingleServer());
+        final String name = COLLECTION_NAME + "_reload_" + rnd();
+        db.createCollection(name);
+        final ArangoCollection reloaded = db.collection(name);
+        try {
+            reloaded.ensurePersistentIndex(Collections.singletonList("value"),
+                    new PersistentIndexOptions().unique(true));
+            reloaded.insertDocument(new BaseDocument("old"));
+
+            final List<BaseDocument> values = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                final BaseDocument document = new BaseDocument("new" + i);
+                document.addAttribute("value", i);
+                values.add(document);
+            }
+            final CollectionEntity result = reloaded.reload(values,
+                    new CollectionReloadOptions().bulkWriterOptions(new BulkWriterOptions().batchSize(3)));
+            assertThat(result.getName(), is(name));
+            assertThat(reloaded.count().getCount(), is(10L));
+            assertThat(reloaded.documentExists("old"), is(false));
+            assertThat(reloaded.getIndexes().stream().anyMatch(index -> index.getType() == IndexType.persistent
+                    && Boolean.TRUE.equals(index.getUnique())), is(true));
+            assertThat(db.collection(name + "_reload").exists(), is(false));
+            assertThat(db.collection(name + "_previous").exists(), is(false));
+        } finally {
+            reloaded.drop();
+        }
+    }
+
     @Test
     public void responsibleShard() {
         assumeTrue(isCluster());
@@ -27,14 +27,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * @author Mark Vollmary
@@ -71,6 +74,159 @@ public class ArangoCursorTest extends BaseTest {
 
 	}
 
+	@Test
+	public void nextWithPrefetch() {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(5).prefetch(2), Long.class);
+		long expected = 0;
+		while (cursor.hasNext()) {
+			assertThat(cursor.next(), is(expected++));
+		}
+		assertThat(expected, is(100L));
+	}
+
+	@Test
+	public void closeWithPrefetch() throws IOException {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(5).prefetch(3), Long.class);
+		assertThat(cursor.next(), is(0L));
+		cursor.close();
+	}
+
+	@Test
+	public void adaptiveBatchSize() {
+		assumeTrue(isAtLeastVersion(3, 8));
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..9999 RETURN i",
+				new AqlQueryOptions().batchSize(10).adaptiveBatchSize(1024L * 1024), Long.class);
+		final ArangoIterator<VPackSlice> batches = cursor.batches();
+		assertThat(batches.next().size(), is(10));
+		long count = 10;
+		int max = 0;
+		while (batches.hasNext()) {
+			final int size = batches.next().size();
+			max = Math.max(max, size);
+			count += size;
+		}
+		assertThat(count, is(10000L));
+		// batches are consumed faster than they are fetched, so the requested batch size grows
+		assertThat(max, greaterThan(10));
+	}
+
+	@Test
+	public void resumableBy() {
+		final ArangoCursor<VPackSlice> cursor = db.query("FOR i IN 0..99 SORT i RETURN {value: i}",
+				new AqlQueryOptions().batchSize(10).resumableBy("value"), VPackSlice.class);
+		for (int i = 0; i < 10; i++) {
+			assertThat(cursor.next().get("value").getAsInt(), is(i));
+		}
+		db.route("/_api/cursor", cursor.getId()).delete();
+		int expected = 10;
+		while (cursor.hasNext()) {
+			assertThat(cursor.next().get("value").getAsInt(), is(expected++));
+		}
+		assertThat(expected, is(100));
+	}
+
+	@Test
+	public void asListRemainingWithMaxMemorySize() {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..999 RETURN i",
+				new AqlQueryOptions().batchSize(100), Long.class);
+		assertThat(cursor.next(), is(0L));
+		final List<Long> list = cursor.asListRemaining(512);
+		assertThat(list.size(), is(999));
+		assertThat(list.get(0), is(1L));
+		assertThat(list.get(500), is(501L));
+		assertThat(list.get(998), is(999L));
+		long expected = 1;
+		for (final Long value : list) {
+			assertThat(value, is(expected++));
+		}
+		assertThat(cursor.hasNext(), is(false));
+	}
+
+	@Test
+	public void batches() {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(10), Long.class);
+		assertThat(cursor.next(), is(0L));
+		assertThat(cursor.next(), is(1L));
+		final ArangoIterator<VPackSlice> batches = cursor.batches();
+		final VPackSlice first = batches.next();
+		assertThat(first.isArray(), is(true));
+		assertThat(first.size(), is(8));
+		assertThat(first.get(0).getAsLong(), is(2L));
+		long count = first.size();
+		while (batches.hasNext()) {
+			final VPackSlice batch = batches.next();
+			assertThat(batch.size(), is(10));
+			count += batch.size();
+		}
+		assertThat(count, is(98L));
+		assertThat(cursor.hasNext(), is(false));
+	}
+
+	@Test
+	public void longs() {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(10).count(true), Long.class);
+		assertThat(cursor.next(), is(0L));
+		final long[] values = cursor.longs().toLongArray();
+		assertThat(values.length, is(99));
+		assertThat(values[0], is(1L));
+		assertThat(values[98], is(99L));
+		assertThat(cursor.hasNext(), is(false));
+	}
+
+	@Test
+	public void doublesFromArrays() {
+		final ArangoCursor<Object> cursor = db.query("FOR i IN 0..49 RETURN [i, i + 0.5]",
+				new AqlQueryOptions().batchSize(10), Object.class);
+		final double[] sum = new double[1];
+		final AtomicLong count = new AtomicLong();
+		cursor.doubles().forEachDouble(value -> {
+			sum[0] += value;
+			count.incrementAndGet();
+		});
+		assertThat(count.get(), is(100L));
+		assertThat(sum[0], is(2475.0));
+	}
+
+	@Test
+	public void streamRemaining() {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(10), Long.class);
+		final List<Long> result = cursor.streamRemaining().collect(Collectors.toList());
+		assertThat(result.size(), is(100));
+		assertThat(result.get(99), is(99L));
+	}
+
+	@Test
+	public void parallelStreamRemaining() {
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..999 RETURN i",
+				new AqlQueryOptions().batchSize(10).count(true), Long.class);
+		final List<Long> result = cursor.streamRemaining().parallel().map(i -> i * 2).collect(Collectors.toList());
+		assertThat(result.size(), is(1000));
+		for (int i = 0; i < result.size(); i++) {
+			assertThat(result.get(i), is(i * 2L));
+		}
+	}
+
+	@Test
+	public void openCursors() throws IOException {
+		final int before = arangoDB.getOpenCursors().getCount();
+		final ArangoCursor<Long> cursor = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(10), Long.class);
+		assertThat(arangoDB.getOpenCursors().getCount(), is(greaterThanOrEqualTo(1)));
+		assertThat(arangoDB.getOpenCursors().getOldestAge(), is(notNullValue()));
+		cursor.close();
+		assertThat(arangoDB.getOpenCursors().getCount(), is(lessThanOrEqualTo(before)));
+
+		final ArangoCursor<Long> exhausted = db.query("FOR i IN 0..99 RETURN i",
+				new AqlQueryOptions().batchSize(10), Long.class);
+		exhausted.asListRemaining();
+		assertThat(arangoDB.getOpenCursors().getCount(), is(lessThanOrEqualTo(before)));
+	}
+
 	@Test
 	public void mapFilterCount() {
 		final ArangoCursor<VPackSlice> cursor = db.query("FOR i IN 0..99 RETURN i", VPackSlice.class);
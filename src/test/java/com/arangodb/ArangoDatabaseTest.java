@@ -770,6 +770,28 @@ public class ArangoDatabaseTest extends BaseTest {
         }
     }
 
+    @Test
+    public void queryBatch() {
+        final String prefix = "queryBatch" + UUID.randomUUID() + "_";
+        final List<Map<String, Object>> bindVarSets = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Map<String, Object> bindVars = new HashMap<>();
+            bindVars.put("@coll", CNAME1);
+            bindVars.put("key", prefix + i);
+            bindVars.put("attr", "value");
+            bindVars.put("value", i);
+            bindVarSets.add(bindVars);
+        }
+        final String query = "INSERT {_key: @key, @attr: @value} IN @@coll RETURN NEW.@attr";
+
+        final List<List<Integer>> results = db.queryBatch(query, bindVarSets, null, Integer.class);
+        assertThat(results.size(), is(3));
+        for (int i = 0; i < 3; i++) {
+            assertThat(results.get(i), contains(i));
+            assertThat(collection1.documentExists(prefix + i), is(true));
+        }
+    }
+
     @Test
     public void queryWithBindVars() {
         for (int i = 0; i < 10; i++) {
@@ -792,6 +814,29 @@ public class ArangoDatabaseTest extends BaseTest {
         }
     }
 
+    @Test
+    public void prepareQuery() {
+        final String marker = UUID.randomUUID().toString();
+        for (int i = 0; i < 10; i++) {
+            final BaseDocument baseDocument = new BaseDocument();
+            baseDocument.addAttribute("age", 20 + i);
+            baseDocument.addAttribute("marker", marker);
+            collection1.insertDocument(baseDocument, null);
+        }
+        final ArangoPreparedQuery<Long> query = db.prepareQuery(
+                "FOR t IN @@coll FILTER t.marker == @marker && t.age >= @age COLLECT WITH COUNT INTO c RETURN c",
+                new AqlQueryOptions().batchSize(1), Long.class);
+
+        for (int age = 20; age < 30; age++) {
+            final Map<String, Object> bindVars = new HashMap<>();
+            bindVars.put("@coll", CNAME1);
+            bindVars.put("marker", marker);
+            bindVars.put("age", age);
+            final ArangoCursor<Long> cursor = query.execute(bindVars);
+            assertThat(cursor.next(), is(30L - age));
+        }
+    }
+
     @Test
     public void queryWithWarning() {
         final ArangoCursor<String> cursor = arangoDB.db().query("return 1/0", null, null, String.class);
@@ -27,8 +27,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -439,6 +442,32 @@ public class ArangoEdgeCollectionTest extends BaseTest {
         }
     }
 
+    @Test
+    public void insertAndDeleteEdges() {
+        final BaseEdgeDocument invalid = createEdgeValue();
+        invalid.setTo("unknown/1");
+        final Collection<BaseEdgeDocument> values = Arrays.asList(createEdgeValue(), invalid, createEdgeValue());
+        final GraphBatchOptions options = new GraphBatchOptions().batchSize(1).parallelism(2);
+
+        final MultiDocumentEntity<DocumentCreateEntity<BaseEdgeDocument>> inserted = edges.insertEdges(values, options);
+        assertThat(inserted.getDocuments().size(), is(2));
+        assertThat(inserted.getErrors().size(), is(1));
+        assertThat(inserted.getErrors().iterator().next().getErrorNum(), is(1906));
+        final List<Object> documentsAndErrors = new ArrayList<>(inserted.getDocumentsAndErrors());
+        assertThat(documentsAndErrors.get(1), is(instanceOf(ErrorEntity.class)));
+
+        final List<String> keys = new ArrayList<>();
+        for (final DocumentCreateEntity<BaseEdgeDocument> document : inserted.getDocuments()) {
+            keys.add(document.getKey());
+        }
+        final MultiDocumentEntity<DocumentDeleteEntity<Void>> deleted = edges.deleteEdges(keys, options);
+        assertThat(deleted.getDocuments().size(), is(2));
+        assertThat(deleted.getErrors(), is(empty()));
+        for (final String key : keys) {
+            assertThat(edgeCollection.documentExists(key), is(false));
+        }
+    }
+
     @Test
     public void edgeKeyWithSpecialChars() {
         final BaseEdgeDocument value = createEdgeValue();
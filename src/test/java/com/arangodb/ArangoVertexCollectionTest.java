@@ -21,6 +21,8 @@
 package com.arangodb;
 
 import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.entity.VertexEntity;
 import com.arangodb.entity.VertexUpdateEntity;
 import com.arangodb.model.*;
@@ -29,8 +31,10 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -134,6 +138,35 @@ public class ArangoVertexCollectionTest extends BaseTest {
         vertexCollection.insertVertex(bd2);
     }
 
+    @Test
+    public void insertVertices() {
+        final String prefix = "insertVertices" + UUID.randomUUID() + "_";
+        final List<BaseDocument> values = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            values.add(new BaseDocument(prefix + i));
+        }
+        final MultiDocumentEntity<DocumentCreateEntity<BaseDocument>> inserted = vertices
+                .insertVertices(values, new GraphBatchOptions().batchSize(2));
+        assertThat(inserted.getDocuments().size(), is(5));
+        assertThat(inserted.getErrors(), is(empty()));
+        final List<DocumentCreateEntity<BaseDocument>> documents = new ArrayList<>(inserted.getDocuments());
+        for (int i = 0; i < 5; i++) {
+            assertThat(documents.get(i).getKey(), is(prefix + i));
+            assertThat(collection.documentExists(prefix + i), is(true));
+        }
+    }
+
+    @Test
+    public void insertVerticesNotVertexCollection() {
+        final String name = "ArangoVertexCollectionTest_" + rnd();
+        try {
+            graph.vertexCollection(name).insertVertices(Collections.singletonList(new BaseDocument()), null);
+            fail();
+        } catch (final ArangoDBException e) {
+            assertThat(e.getMessage(), containsString(name));
+        }
+    }
+
     @Test
     public void insertVertexUpdateRev() {
         final BaseDocument doc = new BaseDocument();
@@ -708,6 +708,67 @@ public class ArangoDatabaseTest extends BaseTest {
         }
     }
 
+    @Test
+    public void prepareQuery() throws InterruptedException, ExecutionException {
+        try {
+            db.createCollection(COLLECTION_NAME, null).get();
+            for (int i = 0; i < 10; i++) {
+                final BaseDocument baseDocument = new BaseDocument();
+                baseDocument.addAttribute("age", 20 + i);
+                db.collection(COLLECTION_NAME).insertDocument(baseDocument, null).get();
+            }
+            final ArangoPreparedQueryAsync<Long> query = db.prepareQuery(
+                    "FOR t IN @@coll FILTER t.age >= @age COLLECT WITH COUNT INTO c RETURN c", null, Long.class);
+            for (int age = 20; age < 30; age++) {
+                final Map<String, Object> bindVars = new HashMap<>();
+                bindVars.put("@coll", COLLECTION_NAME);
+                bindVars.put("age", age);
+                final ArangoCursorAsync<Long> cursor = query.execute(bindVars).get();
+                assertThat(cursor.next(), is(30L - age));
+            }
+        } finally {
+            db.collection(COLLECTION_NAME).drop().get();
+        }
+    }
+
+    @Test
+    public void queryPublisher() throws InterruptedException, ExecutionException {
+        final ArangoPublisher<Long> publisher = db.queryPublisher("FOR i IN 0..99 RETURN i", null,
+                new AqlQueryOptions().batchSize(10), Long.class);
+        final List<Long> received = new ArrayList<>();
+        final CompletableFuture<List<Long>> completed = new CompletableFuture<>();
+        publisher.subscribe(new ArangoPublisher.Subscriber<Long>() {
+            private ArangoPublisher.Subscription subscription;
+
+            @Override
+            public void onSubscribe(final ArangoPublisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(final Long item) {
+                received.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(final Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(received);
+            }
+        });
+        final List<Long> result = completed.get();
+        assertThat(result.size(), is(100));
+        for (int i = 0; i < result.size(); i++) {
+            assertThat(result.get(i), is((long) i));
+        }
+    }
+
     @Test
     public void queryWithWarning() throws InterruptedException, ExecutionException {
         arangoDB.db().query("return 1/0", null, null, String.class)
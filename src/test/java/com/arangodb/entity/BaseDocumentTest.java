@@ -20,6 +20,7 @@
 
 package com.arangodb.entity;
 
+import com.arangodb.internal.velocypack.AttributeNameDictionary;
 import com.arangodb.internal.velocypack.VPackDriverModule;
 import com.arangodb.velocypack.VPack;
 import com.arangodb.velocypack.VPack.Builder;
@@ -92,4 +93,30 @@ public class BaseDocumentTest {
         assertThat(String.valueOf(entity.getAttribute("a")), is("a"));
     }
 
+    @Test
+    public void deserializeWithAttributeNameDictionary() throws VPackException {
+        final VPack.Builder vbuilder = new VPack.Builder();
+        vbuilder.registerModule(new VPackDriverModule(new AttributeNameDictionary()));
+        final VPack vpacker = vbuilder.build();
+
+        final BaseDocument doc1 = vpacker.deserialize(document("1"), BaseDocument.class);
+        final BaseDocument doc2 = vpacker.deserialize(document("2"), BaseDocument.class);
+        assertThat(doc1.getKey(), is("1"));
+        assertThat(doc2.getKey(), is("2"));
+        assertThat(doc2.getAttribute("a"), is("a2"));
+        final String name1 = doc1.getProperties().keySet().iterator().next();
+        final String name2 = doc2.getProperties().keySet().iterator().next();
+        assertThat(name1, is("a"));
+        assertThat(name1 == name2, is(true));
+    }
+
+    private static VPackSlice document(final String key) {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("_key", key);
+        builder.add("a", "a" + key);
+        builder.close();
+        return builder.slice();
+    }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2021 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * @author Michele Rastelli
+ */
+public class AqlUtilsTest {
+
+    private static String rewrite(final String query) {
+        return AqlUtils.bindParametersToAttributes(query, "p");
+    }
+
+    @Test
+    public void values() {
+        assertThat(rewrite("RETURN @a + @b_1"), is("RETURN p[\"a\"] + p[\"b_1\"]"));
+    }
+
+    @Test
+    public void attributeAccess() {
+        assertThat(rewrite("RETURN doc.@attr"), is("RETURN doc[p[\"attr\"]]"));
+        assertThat(rewrite("RETURN doc. @attr"), is("RETURN doc[p[\"attr\"]]"));
+    }
+
+    @Test
+    public void attributeNames() {
+        assertThat(rewrite("RETURN {@attr: @value, a: 1, @other : 2}"),
+                is("RETURN {[p[\"attr\"]]: p[\"value\"], a: 1, [p[\"other\"]] : 2}"));
+    }
+
+    @Test
+    public void ranges() {
+        assertThat(rewrite("FOR i IN 1..@n RETURN i"), is("FOR i IN 1..p[\"n\"] RETURN i"));
+        assertThat(rewrite("FOR i IN @lo..@hi RETURN i"), is("FOR i IN p[\"lo\"]..p[\"hi\"] RETURN i"));
+        assertThat(rewrite("FOR i IN @lo .. @hi RETURN i"), is("FOR i IN p[\"lo\"] .. p[\"hi\"] RETURN i"));
+    }
+
+    @Test
+    public void collections() {
+        assertThat(rewrite("FOR d IN @@coll FILTER d.a == @a RETURN d"),
+                is("FOR d IN @@coll FILTER d.a == p[\"a\"] RETURN d"));
+    }
+
+    @Test
+    public void strings() {
+        assertThat(rewrite("RETURN ['@a', \"@b\", 'it\\'s @c', \"\\\"@d\"]"),
+                is("RETURN ['@a', \"@b\", 'it\\'s @c', \"\\\"@d\"]"));
+        assertThat(rewrite("RETURN doc.`@a`.´@b´"), is("RETURN doc.`@a`.´@b´"));
+    }
+
+    @Test
+    public void comments() {
+        assertThat(rewrite("RETURN @a // @b\n + @c"), is("RETURN p[\"a\"] // @b\n + p[\"c\"]"));
+        assertThat(rewrite("RETURN /* @a */ @b"), is("RETURN /* @a */ p[\"b\"]"));
+    }
+
+}
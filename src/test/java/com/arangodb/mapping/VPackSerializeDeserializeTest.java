@@ -3237,6 +3237,65 @@ public class VPackSerializeDeserializeTest {
 		assertThat(entity.timestamp, is(new java.sql.Timestamp(1475062216)));
 	}
 
+	public static class TestEntityJavaTime {
+		private java.time.Instant instant = java.time.Instant.ofEpochMilli(1474988621);
+		private java.time.LocalDateTime localDateTime = java.time.LocalDateTime.of(2016, 9, 27, 15, 3, 41, 123000000);
+		private java.time.OffsetDateTime offsetDateTime = java.time.OffsetDateTime
+				.of(2016, 9, 27, 15, 3, 41, 123000000, java.time.ZoneOffset.ofHours(2));
+
+		public java.time.Instant getInstant() {
+			return instant;
+		}
+
+		public void setInstant(final java.time.Instant instant) {
+			this.instant = instant;
+		}
+
+		public java.time.LocalDateTime getLocalDateTime() {
+			return localDateTime;
+		}
+
+		public void setLocalDateTime(final java.time.LocalDateTime localDateTime) {
+			this.localDateTime = localDateTime;
+		}
+
+		public java.time.OffsetDateTime getOffsetDateTime() {
+			return offsetDateTime;
+		}
+
+		public void setOffsetDateTime(final java.time.OffsetDateTime offsetDateTime) {
+			this.offsetDateTime = offsetDateTime;
+		}
+	}
+
+	@Test
+	public void fromJavaTime() throws IOException {
+		final TestEntityJavaTime value = new TestEntityJavaTime();
+		final VPackSlice vpack = new VPackSlice(mapper.writeValueAsBytes(value));
+		assertThat(vpack, is(notNullValue()));
+		assertThat(vpack.get("instant").getAsString(), is(DATE_FORMAT.format(new Date(1474988621))));
+		assertThat(vpack.get("localDateTime").getAsString(), is("2016-09-27T15:03:41.123"));
+		assertThat(vpack.get("offsetDateTime").getAsString(), is("2016-09-27T15:03:41.123+02:00"));
+
+		final TestEntityJavaTime entity = mapper.readValue(vpack.getBuffer(), TestEntityJavaTime.class);
+		assertThat(entity.instant, is(value.instant));
+		assertThat(entity.localDateTime, is(value.localDateTime));
+		assertThat(entity.offsetDateTime, is(value.offsetDateTime));
+	}
+
+	@Test
+	public void toDateFromStringWithOffset() throws IOException {
+		final VPackSlice vpack = new VPackBuilder().add(ValueType.OBJECT)
+				.add("utilDate", "1970-01-18T02:43:08.621+0100")
+				.add("sqlDate", "1970-01-18T01:43:08.621Z")
+				.add("timestamp", "1970-01-18T02:43:08.621+01:00")
+				.close().slice();
+		final TestEntityDate entity = mapper.readValue(vpack.getBuffer(), TestEntityDate.class);
+		assertThat(entity.utilDate, is(new Date(1474988621)));
+		assertThat(entity.sqlDate, is(new java.sql.Date(1474988621)));
+		assertThat(entity.timestamp, is(new java.sql.Timestamp(1474988621)));
+	}
+
 	public static class TestEntityUUID {
 		private UUID uuid;
 